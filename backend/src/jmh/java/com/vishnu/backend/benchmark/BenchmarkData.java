@@ -0,0 +1,61 @@
+package com.vishnu.backend.benchmark;
+
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.entity.Claim;
+import com.vishnu.backend.entity.FoodListing;
+import com.vishnu.backend.entity.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class BenchmarkData {
+    static final String BCRYPT_PASSWORD = "correct horse battery staple";
+
+    private BenchmarkData() {
+    }
+
+    static User donor(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("donor" + id + "@hotel.in");
+        user.setPassword("$2a$10$XaGjjrcreq56LecJhMbIJOcC6Dx4OJ4L2TzE0RlwY4SAS0fGAaD/u");
+        user.setName("Annapurna Caterers " + id);
+        user.setPhone("98450" + id);
+        user.setAddress("12th Main, Indiranagar, Bengaluru 560038");
+        user.setRole(User.UserRole.DONOR);
+        return user;
+    }
+
+    static User recipient(long id) {
+        User user = donor(id);
+        user.setEmail("ngo" + id + "@seva.org");
+        user.setName("Seva Trust " + id);
+        user.setRole(User.UserRole.RECIPIENT);
+        return user;
+    }
+
+    static FoodListing listing(long id, User donor, double lat, double lng) {
+        LocalDateTime now = LocalDateTime.now();
+        return new FoodListing(id, donor, "Veg biryani", 40, "plates", "Wedding leftovers, packed in foil trays",
+                lat, lng, "Indiranagar, Bengaluru", FoodListing.ListingStatus.AVAILABLE,
+                FoodListing.FoodCategory.COOKED_MEALS, now.plusHours(6), now, now);
+    }
+
+    static Claim claim(long id, FoodListing listing, User claimant) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Claim(id, listing, claimant, null, Claim.ClaimStatus.PENDING, null, now, null, now, now, null);
+    }
+
+    /** Listings scattered uniformly over a box roughly the size of India. */
+    static List<FoodListingDTO> scatteredListings(int count, long seed) {
+        Random random = new Random(seed);
+        User donor = donor(1);
+        List<FoodListingDTO> listings = new ArrayList<>(count);
+        for (long i = 0; i < count; i++) {
+            listings.add(FoodListingDTO.fromEntity(
+                    listing(i, donor, 8 + random.nextDouble() * 29, 68 + random.nextDouble() * 29)));
+        }
+        return listings;
+    }
+}
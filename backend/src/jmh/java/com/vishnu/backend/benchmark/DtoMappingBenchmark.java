@@ -0,0 +1,53 @@
+package com.vishnu.backend.benchmark;
+
+import com.vishnu.backend.dto.ClaimDTO;
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.dto.UserDTO;
+import com.vishnu.backend.entity.Claim;
+import com.vishnu.backend.entity.FoodListing;
+import com.vishnu.backend.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+    private User user;
+    private FoodListing listing;
+    private Claim claim;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkData.donor(1);
+        listing = BenchmarkData.listing(1, user, 12.97, 77.64);
+        claim = BenchmarkData.claim(1, listing, BenchmarkData.recipient(2));
+    }
+
+    @Benchmark
+    public FoodListingDTO foodListingFromEntity() {
+        return FoodListingDTO.fromEntity(listing);
+    }
+
+    @Benchmark
+    public UserDTO userFromEntity() {
+        return UserDTO.fromEntity(user);
+    }
+
+    @Benchmark
+    public ClaimDTO claimFromEntity() {
+        return ClaimDTO.fromEntity(claim);
+    }
+}
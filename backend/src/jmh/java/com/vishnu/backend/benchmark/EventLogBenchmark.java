@@ -0,0 +1,101 @@
+package com.vishnu.backend.benchmark;
+
+import com.vishnu.backend.events.EventLog;
+import com.vishnu.backend.events.LoggedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventLogBenchmark {
+    private static final int SEGMENT_BYTES = 64 * 1024 * 1024;
+    private static final int DAY_EVENTS = 500_000;
+    private static final int RELAY_BATCH = 1000;
+    private static final int CONSUMER_BATCH = 500;
+    private static final long DAY_START = 1_767_225_600_000L;
+    private static final String DATA = "{\"listingId\":12345,\"claimantId\":678,\"completedAt\":\"2026-01-01T12:00:00\"," +
+            "\"donorId\":42,\"category\":\"COOKED_FOOD\",\"city\":\"Hyderabad\",\"unit\":\"plates\",\"quantity\":40}";
+
+    private Path dir;
+    private EventLog day;
+    private EventLog appendLog;
+    private long nextOutboxId;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("event-log-bench");
+        day = EventLog.open(dir.resolve("day"), SEGMENT_BYTES);
+        long spacingMillis = TimeUnit.DAYS.toMillis(1) / DAY_EVENTS;
+        for (int i = 0; i < DAY_EVENTS; i++) {
+            day.append(i, DAY_START + i * spacingMillis, "CLAIM_COMPLETED", i, DATA);
+            if (i % RELAY_BATCH == RELAY_BATCH - 1) {
+                day.flush();
+            }
+        }
+        day.flush();
+        appendLog = EventLog.open(dir.resolve("append"), SEGMENT_BYTES);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        day.close();
+        appendLog.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /** One relay batch: 1000 appends and the force to disk that publishes them. */
+    @Benchmark
+    public long relayBatch() {
+        long offset = 0;
+        for (int i = 0; i < RELAY_BATCH; i++) {
+            offset = appendLog.append(nextOutboxId++, System.currentTimeMillis(), "CLAIM_COMPLETED", i, DATA);
+        }
+        appendLog.flush();
+        return offset;
+    }
+
+    /** A consumer replaying a whole day of 500k events in batches of 500 from a time lookup. */
+    @Benchmark
+    public void replayDay(Blackhole blackhole) {
+        long offset = day.offsetAt(DAY_START);
+        List<LoggedEvent> batch;
+        do {
+            batch = day.read(offset, CONSUMER_BATCH);
+            for (LoggedEvent event : batch) {
+                blackhole.consume(event);
+            }
+            offset += batch.size();
+        } while (batch.size() == CONSUMER_BATCH);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long offsetAtMidday() {
+        return day.offsetAt(DAY_START + TimeUnit.HOURS.toMillis(12));
+    }
+}
@@ -0,0 +1,140 @@
+package com.vishnu.backend.benchmark;
+
+import com.vishnu.backend.VishnuBackendApplication;
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.geo.GeoUtils;
+import com.vishnu.backend.geo.ListingGeoIndex;
+import com.vishnu.backend.repository.FoodListingRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Haversine cost and k-nearest lookups through {@link ListingGeoIndex} against the path the index
+ * replaced: {@code FoodListingRepository.findAvailableListings} on H2, every row mapped to a DTO and
+ * its distance computed. Both sides hold the same listings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeoBenchmark {
+    private static final double RADIUS_KM = 10;
+    private static final int LIMIT = 20;
+
+    @Param({"10000", "300000"})
+    private int listingCount;
+
+    private ListingGeoIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new ListingGeoIndex(0.05);
+        index.rebuild(BenchmarkData.scatteredListings(listingCount, 42));
+    }
+
+    @Benchmark
+    public double haversine() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return GeoUtils.haversineKm(12.97, 77.59, 12.97 + random.nextDouble(), 77.59 + random.nextDouble());
+    }
+
+    @Benchmark
+    public List<FoodListingDTO> indexNearest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return index.findNearest(8 + random.nextDouble() * 29, 68 + random.nextDouble() * 29, RADIUS_KM, LIMIT);
+    }
+
+    @Benchmark
+    public List<FoodListingDTO> repositoryNearest(Database database) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double lat = 8 + random.nextDouble() * 29;
+        double lng = 68 + random.nextDouble() * 29;
+
+        PriorityQueue<Candidate> best = new PriorityQueue<>(LIMIT,
+                Comparator.comparingDouble(Candidate::distanceKm).reversed());
+        database.repository.findAvailableListings().forEach(entity -> {
+            FoodListingDTO listing = FoodListingDTO.fromEntity(entity);
+            double distanceKm = GeoUtils.haversineKm(lat, lng, listing.getLatitude(), listing.getLongitude());
+            if (distanceKm <= RADIUS_KM) {
+                best.add(new Candidate(distanceKm, listing));
+                if (best.size() > LIMIT) {
+                    best.poll();
+                }
+            }
+        });
+        List<FoodListingDTO> result = new ArrayList<>(best.size());
+        best.stream().sorted(Comparator.comparingDouble(Candidate::distanceKm)).forEach(c -> result.add(c.listing()));
+        return result;
+    }
+
+    /** The app on the h2 profile, holding the same listings as the index. Only the repository path boots it. */
+    @State(Scope.Benchmark)
+    public static class Database {
+        @Param({"10000", "300000"})
+        private int listingCount;
+
+        private ConfigurableApplicationContext context;
+        private FoodListingRepository repository;
+
+        @Setup
+        public void setUp() {
+            System.setProperty("spring.devtools.restart.enabled", "false");
+            context = new SpringApplicationBuilder(VishnuBackendApplication.class)
+                    .profiles("h2", "test")
+                    .run("--server.port=0", "--logging.level.root=WARN");
+            repository = context.getBean(FoodListingRepository.class);
+            seed(context.getBean(JdbcTemplate.class), BenchmarkData.scatteredListings(listingCount, 42));
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.close();
+        }
+
+        private static void seed(JdbcTemplate jdbcTemplate, List<FoodListingDTO> listings) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.update("INSERT INTO users (email, password, name, role, impact_score, total_donations, " +
+                    "total_claims, is_active, created_at, updated_at) " +
+                    "VALUES ('donor@hotel.in', 'x', 'Annapurna Caterers', 'DONOR', 0, 0, 0, true, ?, ?)", now, now);
+            Long donorId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'donor@hotel.in'",
+                    Long.class);
+
+            List<Object[]> rows = new ArrayList<>(listings.size());
+            for (FoodListingDTO listing : listings) {
+                rows.add(new Object[] {donorId, listing.getFoodType(), listing.getQuantity(), listing.getUnit(),
+                        listing.getDescription(), listing.getLatitude(), listing.getLongitude(), listing.getLocation(),
+                        listing.getStatus(), listing.getCategory(), Timestamp.valueOf(listing.getExpiryTime()),
+                        now, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO food_listings (donor_id, food_type, quantity, unit, description, " +
+                    "latitude, longitude, location, status, category, expiry_time, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    private record Candidate(double distanceKm, FoodListingDTO listing) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.vishnu.backend.benchmark;
+
+import com.vishnu.backend.security.AuthenticatedUser;
+import com.vishnu.backend.security.VerifiedTokenCache;
+import com.vishnu.backend.service.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+    private static final String SECRET = "your_very_long_secret_key_change_this_in_production_environment_12345";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 86400000);
+        jwtTokenProvider.init();
+        token = jwtTokenProvider.generateToken(42L, "donor42@hotel.in");
+
+        verifiedTokenCache = new VerifiedTokenCache(10000);
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        verifiedTokenCache.put(token, new AuthenticatedUser(42L, "donor42@hotel.in", claims.getExpiration().getTime()));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(42L, "donor42@hotel.in");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    /** One verification through the pre-built parser, as the authentication filter does on a cache miss. */
+    @Benchmark
+    public Claims parseClaimsOnce() {
+        return jwtTokenProvider.parseClaims(token);
+    }
+
+    /** Cost per request once the token is in the verified-token cache. */
+    @Benchmark
+    public AuthenticatedUser verifiedTokenCacheHit() {
+        return verifiedTokenCache.get(token);
+    }
+
+    /**
+     * What an authenticated request used to cost: a fresh key and parser for each of
+     * validateToken, getUserIdFromToken and getEmailFromToken.
+     */
+    @Benchmark
+    public String legacyTripleVerification() {
+        for (int i = 0; i < 2; i++) {
+            Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build().parseClaimsJws(token);
+        }
+        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                .parseClaimsJws(token).getBody().get("email", String.class);
+    }
+}
@@ -0,0 +1,106 @@
+package com.vishnu.backend.benchmark;
+
+import com.vishnu.backend.ratelimit.EndpointClass;
+import com.vishnu.backend.ratelimit.RateLimitFilter;
+import com.vishnu.backend.ratelimit.RateLimitProperties;
+import com.vishnu.backend.ratelimit.TokenBucket;
+import com.vishnu.backend.security.AuthenticatedUser;
+import com.vishnu.backend.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitBenchmark {
+    private static final int CLIENTS = 10_000;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private TokenBucket<String> openBucket;
+    private TokenBucket<String> exhaustedBucket;
+    private String[] clientIps;
+    private int next;
+    private RateLimitFilter filter;
+    private MockHttpServletRequest authenticatedRead;
+
+    @Setup
+    public void setUp() {
+        Duration idle = Duration.ofMinutes(10);
+        openBucket = new TokenBucket<>(1e9, 1_000_000, idle, 100_000);
+        exhaustedBucket = new TokenBucket<>(0.001, 1, idle, 100_000);
+        exhaustedBucket.tryAcquire("10.0.0.1", System.nanoTime());
+        clientIps = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientIps[i] = "10." + (i >> 16) + "." + ((i >> 8) & 0xff) + "." + (i & 0xff);
+            openBucket.tryAcquire(clientIps[i], System.nanoTime());
+        }
+
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.EndpointLimits read = new RateLimitProperties.EndpointLimits();
+        read.getIp().setPerSecond(1e9);
+        read.getIp().setBurst(1_000_000);
+        read.getUser().setPerSecond(1e9);
+        read.getUser().setBurst(1_000_000);
+        properties.getEndpoints().put(EndpointClass.READ, read);
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10_000);
+        verifiedTokenCache.put("token-42", new AuthenticatedUser(42L, "donor42@hotel.in", Long.MAX_VALUE));
+        filter = new RateLimitFilter(properties, verifiedTokenCache, new SimpleMeterRegistry());
+
+        authenticatedRead = new MockHttpServletRequest("GET", "/api/listings/available");
+        authenticatedRead.setRemoteAddr("10.0.0.1");
+        authenticatedRead.addHeader("Authorization", "Bearer token-42");
+    }
+
+    @Benchmark
+    public EndpointClass classify() {
+        return EndpointClass.of("PUT", "/api/claims/17/approve");
+    }
+
+    /** Admission across 10k tracked client IPs. */
+    @Benchmark
+    public long admitManyClients() {
+        int i = next++;
+        if (next == CLIENTS) {
+            next = 0;
+        }
+        return openBucket.tryAcquire(clientIps[i], System.nanoTime());
+    }
+
+    /** Eight threads taking tokens from the same bucket, the worst case for the CAS loop. */
+    @Benchmark
+    @Threads(8)
+    public long admitContendedClient() {
+        return openBucket.tryAcquire("10.0.0.1", System.nanoTime());
+    }
+
+    @Benchmark
+    public long rejectExhaustedClient() {
+        return exhaustedBucket.tryAcquire("10.0.0.1", System.nanoTime());
+    }
+
+    /** The whole filter for an authenticated GET: classification, IP bucket, token lookup, user bucket. */
+    @Benchmark
+    public int filterAuthenticatedRead() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(authenticatedRead, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+}
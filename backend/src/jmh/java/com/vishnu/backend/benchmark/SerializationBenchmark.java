@@ -0,0 +1,79 @@
+package com.vishnu.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vishnu.backend.dto.ClaimDTO;
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.dto.PageResponse;
+import com.vishnu.backend.entity.Claim;
+import com.vishnu.backend.entity.FoodListing;
+import com.vishnu.backend.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the JSON bodies the API actually returns, using an ObjectMapper configured
+ * the way Spring Boot configures the MVC one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<FoodListingDTO> listingPage;
+    private List<Claim> claimEntities;
+    private List<ClaimDTO> claimDtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<FoodListingDTO> listings = new ArrayList<>(pageSize);
+        claimEntities = new ArrayList<>(pageSize);
+        claimDtos = new ArrayList<>(pageSize);
+        for (long i = 0; i < pageSize; i++) {
+            User donor = BenchmarkData.donor(i);
+            FoodListing listing = BenchmarkData.listing(i, donor, 12.97, 77.64);
+            Claim claim = BenchmarkData.claim(i, listing, BenchmarkData.recipient(1000 + i));
+            listings.add(FoodListingDTO.fromEntity(listing));
+            claimEntities.add(claim);
+            claimDtos.add(ClaimDTO.fromEntity(claim));
+        }
+        listingPage = new PageResponse<>(listings, "MjAyNi0wMy0wMVQwMDo0OHw0OTg");
+    }
+
+    @Benchmark
+    public byte[] listingFeedPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listingPage);
+    }
+
+    /** Claim responses as they were serialised before ClaimDTO: the full entity graph. */
+    @Benchmark
+    public byte[] claimEntityGraph() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(claimEntities);
+    }
+
+    @Benchmark
+    public byte[] claimDtos() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(claimDtos);
+    }
+}
@@ -0,0 +1,58 @@
+package com.vishnu.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latency samples for one endpoint. Each worker owns its own instance; they are merged once
+ * the run is over, so recording is a plain array store.
+ */
+class EndpointStats {
+    private long[] samplesNanos = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long nanos, boolean ok) {
+        if (count == samplesNanos.length) {
+            samplesNanos = Arrays.copyOf(samplesNanos, count * 2);
+        }
+        samplesNanos[count++] = nanos;
+        if (!ok) {
+            errors++;
+        }
+    }
+
+    void merge(EndpointStats other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.samplesNanos[i], true);
+        }
+        errors += other.errors;
+    }
+
+    Map<String, Object> summarize(double durationSeconds) {
+        long[] sorted = Arrays.copyOf(samplesNanos, count);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count);
+        summary.put("errors", errors);
+        summary.put("throughputPerSec", round(count / durationSeconds));
+        summary.put("p50Ms", percentileMillis(sorted, 0.50));
+        summary.put("p95Ms", percentileMillis(sorted, 0.95));
+        summary.put("p99Ms", percentileMillis(sorted, 0.99));
+        return summary;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return round(sorted[Math.max(0, index)] / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
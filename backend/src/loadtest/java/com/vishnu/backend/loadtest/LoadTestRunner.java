@@ -0,0 +1,306 @@
+package com.vishnu.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vishnu.backend.VishnuBackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * End-to-end load test: boots the application on the in-memory H2 profile, seeds it, drives a
+ * mixed workload over HTTP and records p50/p95/p99 latency and throughput per endpoint. The
+ * result is compared with the committed baseline and the process exits non-zero on regression.
+ *
+ * <pre>mvn -Ploadtest test-compile exec:exec</pre>
+ *
+ * Tunables are system properties, see {@link Config}. Pass {@code -Dloadtest.updateBaseline=true}
+ * (through {@code -Dloadtest.args}) to record a new baseline instead of comparing.
+ */
+public class LoadTestRunner {
+    private static final String LOGIN = "POST /api/auth/login";
+    private static final String AVAILABLE = "GET /api/listings/available";
+    private static final String CREATE_LISTING = "POST /api/listings";
+    private static final String CREATE_CLAIM = "POST /api/claims";
+    private static final String APPROVE_CLAIM = "PUT /api/claims/{id}/approve";
+    private static final List<String> ENDPOINTS = List.of(LOGIN, AVAILABLE, CREATE_LISTING, CREATE_CLAIM, APPROVE_CLAIM);
+
+    private final Config config;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ConcurrentLinkedQueue<Long> pendingClaims = new ConcurrentLinkedQueue<>();
+    private final List<String> donorTokens = new ArrayList<>();
+    private final List<Long> donorIds = new ArrayList<>();
+    private final List<String> recipientTokens = new ArrayList<>();
+    private final List<Long> recipientIds = new ArrayList<>();
+    private List<Long> listingIds;
+    private String baseUrl;
+
+    LoadTestRunner(Config config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        int exitCode;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(VishnuBackendApplication.class)
+                .profiles("h2", "loadtest")
+                .run("--server.port=0")) {
+            exitCode = new LoadTestRunner(Config.fromSystemProperties()).run(context);
+        }
+        System.exit(exitCode);
+    }
+
+    int run(ConfigurableApplicationContext context) throws Exception {
+        baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        new LoadTestSeeder(jdbcTemplate).seed(config.donors, config.recipients, config.listings);
+        listingIds = jdbcTemplate.queryForList("SELECT id FROM food_listings", Long.class);
+        for (int i = 1; i <= config.sessions; i++) {
+            donorIds.add(login(i, donorTokens));
+            recipientIds.add(login(config.donors + i, recipientTokens));
+        }
+
+        System.out.printf("Warming up for %ds with %d workers%n", config.warmupSeconds, config.threads);
+        drive(config.warmupSeconds);
+        System.out.printf("Measuring for %ds%n", config.durationSeconds);
+        Map<String, EndpointStats> stats = drive(config.durationSeconds);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String endpoint : ENDPOINTS) {
+            result.put(endpoint, stats.get(endpoint).summarize(config.durationSeconds));
+        }
+        File resultFile = new File(config.resultPath);
+        resultFile.getParentFile().mkdirs();
+        objectMapper.writeValue(resultFile, result);
+        System.out.println(objectMapper.writeValueAsString(result));
+
+        JsonNode current = objectMapper.valueToTree(result);
+        List<String> errors = errors(current);
+        errors.forEach(e -> System.out.println("ERRORS " + e));
+        if (config.updateBaseline) {
+            if (!errors.isEmpty()) {
+                System.out.println("Baseline not updated: the run had errors");
+                return 1;
+            }
+            objectMapper.writeValue(new File(config.baselinePath), result);
+            System.out.println("Baseline updated: " + config.baselinePath);
+            return 0;
+        }
+        List<String> regressions = compareWithBaseline(current);
+        regressions.forEach(r -> System.out.println("REGRESSION " + r));
+        return errors.isEmpty() && regressions.isEmpty() ? 0 : 1;
+    }
+
+    private Map<String, EndpointStats> drive(int seconds) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        ExecutorService workers = Executors.newFixedThreadPool(config.threads);
+        List<Future<Map<String, EndpointStats>>> futures = new ArrayList<>();
+        for (int i = 0; i < config.threads; i++) {
+            futures.add(workers.submit(() -> {
+                Map<String, EndpointStats> local = newStats();
+                while (System.nanoTime() < deadline) {
+                    step(local);
+                }
+                return local;
+            }));
+        }
+
+        Map<String, EndpointStats> merged = newStats();
+        for (Future<Map<String, EndpointStats>> future : futures) {
+            future.get().forEach((endpoint, stats) -> merged.get(endpoint).merge(stats));
+        }
+        workers.shutdown();
+        return merged;
+    }
+
+    /** One request from the weighted mix: 50% feed reads, 20% claims, 10% each of the rest. */
+    private void step(Map<String, EndpointStats> stats) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        int session = random.nextInt(config.sessions);
+
+        if (roll < 50) {
+            timed(stats.get(AVAILABLE), get("/api/listings/available?size=20", recipientTokens.get(session)), null);
+        } else if (roll < 70) {
+            Long listingId = listingIds.get(random.nextInt(listingIds.size()));
+            timed(stats.get(CREATE_CLAIM), post("/api/claims?listingId=" + listingId + "&claimantId="
+                    + recipientIds.get(session), "", recipientTokens.get(session)), body -> {
+                pendingClaims.add(body.get("id").asLong());
+            });
+        } else if (roll < 80) {
+            Long claimId = pendingClaims.poll();
+            if (claimId != null) {
+                timed(stats.get(APPROVE_CLAIM), put("/api/claims/" + claimId + "/approve", donorTokens.get(session)), null);
+            }
+        } else if (roll < 90) {
+            double[] metro = LoadTestSeeder.METROS[random.nextInt(LoadTestSeeder.METROS.length)];
+            String listing = String.format("{\"foodType\":\"Load test thali\",\"quantity\":%d,\"unit\":\"plates\"," +
+                            "\"latitude\":%f,\"longitude\":%f,\"location\":\"Load test\",\"category\":\"COOKED_MEALS\"," +
+                            "\"expiryTime\":\"%s\"}", 1 + random.nextInt(50), metro[0] + random.nextGaussian() * 0.1,
+                    metro[1] + random.nextGaussian() * 0.1, LocalDateTime.now().plusHours(6).withNano(0));
+            timed(stats.get(CREATE_LISTING), post("/api/listings?donorId=" + donorIds.get(session), listing,
+                    donorTokens.get(session)), null);
+        } else {
+            int userId = 1 + random.nextInt(config.donors + config.recipients);
+            timed(stats.get(LOGIN), post("/api/auth/login", loginBody(userId), null), null);
+        }
+    }
+
+    private void timed(EndpointStats stats, HttpRequest request, ResponseHandler onSuccess) {
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            // 409 is the expected outcome for an approval that lost the race for its listing
+            ok = response.statusCode() < 300 || response.statusCode() == 409;
+            if (response.statusCode() < 300 && onSuccess != null) {
+                onSuccess.handle(objectMapper.readTree(response.body()));
+            }
+        } catch (IOException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        stats.record(System.nanoTime() - start, ok);
+    }
+
+    private List<String> compareWithBaseline(JsonNode current) throws IOException {
+        File baselineFile = new File(config.baselinePath);
+        if (!baselineFile.exists()) {
+            System.out.println("No baseline at " + config.baselinePath + ", skipping comparison");
+            return List.of();
+        }
+        JsonNode baseline = objectMapper.readTree(baselineFile);
+        List<String> regressions = new ArrayList<>();
+        for (String endpoint : ENDPOINTS) {
+            JsonNode base = baseline.get(endpoint);
+            JsonNode now = current.get(endpoint);
+            if (base == null) {
+                continue;
+            }
+            for (String percentile : List.of("p50Ms", "p95Ms", "p99Ms")) {
+                double limit = base.get(percentile).asDouble() * (1 + config.tolerance) + config.slackMs;
+                if (now.get(percentile).asDouble() > limit) {
+                    regressions.add(String.format("%s %s %.2f > %.2f", endpoint, percentile,
+                            now.get(percentile).asDouble(), limit));
+                }
+            }
+            double minThroughput = base.get("throughputPerSec").asDouble() * (1 - config.tolerance);
+            if (now.get("throughputPerSec").asDouble() < minThroughput) {
+                regressions.add(String.format("%s throughputPerSec %.2f < %.2f", endpoint,
+                        now.get("throughputPerSec").asDouble(), minThroughput));
+            }
+        }
+        return regressions;
+    }
+
+    /** Any failed request fails the run, with or without a baseline to compare against. */
+    private static List<String> errors(JsonNode current) {
+        List<String> errors = new ArrayList<>();
+        for (String endpoint : ENDPOINTS) {
+            int count = current.get(endpoint).get("errors").asInt();
+            if (count > 0) {
+                errors.add(endpoint + " had " + count + " errors");
+            }
+        }
+        return errors;
+    }
+
+    private Long login(int userId, List<String> tokens) throws Exception {
+        HttpResponse<String> response = httpClient.send(post("/api/auth/login", loginBody(userId), null),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode body = objectMapper.readTree(response.body());
+        tokens.add(body.get("token").asText());
+        return body.get("user").get("id").asLong();
+    }
+
+    private String loginBody(int userId) {
+        return "{\"email\":\"" + LoadTestSeeder.email(userId) + "\",\"password\":\"" + LoadTestSeeder.PASSWORD + "\"}";
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String json, String token) {
+        return request(path, token).POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest put(String path, String token) {
+        return request(path, token).PUT(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static Map<String, EndpointStats> newStats() {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        ENDPOINTS.forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+        return stats;
+    }
+
+    private interface ResponseHandler {
+        void handle(JsonNode body) throws IOException;
+    }
+
+    static final class Config {
+        int threads;
+        int warmupSeconds;
+        int durationSeconds;
+        int donors;
+        int recipients;
+        int listings;
+        int sessions;
+        double tolerance;
+        double slackMs;
+        String baselinePath;
+        String resultPath;
+        boolean updateBaseline;
+
+        static Config fromSystemProperties() {
+            Config config = new Config();
+            config.threads = Integer.getInteger("loadtest.threads", 32);
+            config.warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 15);
+            config.durationSeconds = Integer.getInteger("loadtest.durationSeconds", 60);
+            config.donors = Integer.getInteger("loadtest.donors", 200);
+            config.recipients = Integer.getInteger("loadtest.recipients", 2000);
+            config.listings = Integer.getInteger("loadtest.listings", 20000);
+            config.sessions = Integer.getInteger("loadtest.sessions", 20);
+            config.tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.3"));
+            config.slackMs = Double.parseDouble(System.getProperty("loadtest.slackMs", "2"));
+            config.baselinePath = System.getProperty("loadtest.baseline", "src/loadtest/resources/loadtest-baseline.json");
+            config.resultPath = System.getProperty("loadtest.result", "target/loadtest-result.json");
+            config.updateBaseline = Boolean.getBoolean("loadtest.updateBaseline");
+            return config;
+        }
+    }
+}
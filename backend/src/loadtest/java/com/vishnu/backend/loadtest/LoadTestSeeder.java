@@ -0,0 +1,65 @@
+package com.vishnu.backend.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds donors, recipients and AVAILABLE listings spread around a handful of Indian metros
+ * with batched JDBC inserts. Every seeded user has the password {@link #PASSWORD}.
+ */
+class LoadTestSeeder {
+    static final String PASSWORD = "password";
+
+    static final double[][] METROS = {
+            {28.6139, 77.2090}, {19.0760, 72.8777}, {12.9716, 77.5946},
+            {13.0827, 80.2707}, {22.5726, 88.3639}, {17.3850, 78.4867}
+    };
+
+    private static final String[] FOODS = {"Veg biryani", "Dal rice", "Chapati", "Idli", "Milk", "Bread", "Samosa"};
+    private static final String[] CATEGORIES = {"COOKED_MEALS", "COOKED_MEALS", "BAKERY", "DAIRY", "PACKAGED_FOOD"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(7);
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void seed(int donors, int recipients, int listings) {
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> users = new ArrayList<>(donors + recipients);
+        for (int i = 1; i <= donors + recipients; i++) {
+            boolean donor = i <= donors;
+            users.add(new Object[] {email(i), passwordHash, (donor ? "Donor " : "Recipient ") + i, "9" + (100000000 + i),
+                    "Seeded address " + i, donor ? "DONOR" : "RECIPIENT", now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, password, name, phone, address, role, impact_score, " +
+                "total_donations, total_claims, is_active, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 0, 0, 0, true, ?, ?)", users);
+
+        Timestamp expiry = Timestamp.valueOf(LocalDateTime.now().plusDays(2));
+        List<Object[]> rows = new ArrayList<>(listings);
+        for (int i = 0; i < listings; i++) {
+            double[] metro = METROS[random.nextInt(METROS.length)];
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(10_000)));
+            rows.add(new Object[] {1 + random.nextInt(donors), FOODS[random.nextInt(FOODS.length)],
+                    1 + random.nextInt(50), "plates", "Seeded listing " + i,
+                    metro[0] + random.nextGaussian() * 0.1, metro[1] + random.nextGaussian() * 0.1,
+                    "Seeded location", CATEGORIES[random.nextInt(CATEGORIES.length)], expiry, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO food_listings (donor_id, food_type, quantity, unit, description, " +
+                "latitude, longitude, location, status, category, expiry_time, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'AVAILABLE', ?, ?, ?, ?)", rows);
+    }
+
+    static String email(int userId) {
+        return "loadtest" + userId + "@example.in";
+    }
+}
@@ -0,0 +1,218 @@
+package com.vishnu.backend.analytics;
+
+import com.vishnu.backend.archive.ArchiveService;
+import com.vishnu.backend.dto.ImpactStatDTO;
+import com.vishnu.backend.dto.RollupRebuildSummary;
+import com.vishnu.backend.entity.FoodListing;
+import com.vishnu.backend.entity.ImpactRollup;
+import com.vishnu.backend.repository.ClaimRepository;
+import com.vishnu.backend.repository.ImpactRollupRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+/**
+ * Impact reports served from {@code impact_rollups} only; the claims table is read by
+ * {@link #rebuild} alone. Rollups lag completions by at most one buffer flush.
+ */
+@Service
+public class AnalyticsService {
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsService.class);
+
+    public static final int MAX_RANGE_DAYS = 366;
+
+    public enum Dimension {
+        DAY, CATEGORY, CITY, UNIT
+    }
+
+    private static final Comparator<ImpactStatDTO> ORDER = Comparator
+            .comparing(ImpactStatDTO::getDay, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(ImpactStatDTO::getCategory, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(ImpactStatDTO::getCity, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(ImpactStatDTO::getUnit, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+
+    @Autowired
+    private ImpactRollupRepository impactRollupRepository;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ImpactRollupBuffer impactRollupBuffer;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Value("${app.analytics.rebuild-chunk-size:50000}")
+    private int chunkSize;
+
+    @Value("${app.analytics.rebuild-parallelism:0}")
+    private int parallelism;
+
+    @Value("#{'${app.analytics.meal-units:plates,meals,servings,portions,boxes}'.split(',')}")
+    private List<String> mealUnitList;
+
+    private Set<String> mealUnits;
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void start() {
+        mealUnits = mealUnitList.stream().map(RollupKey::normalize).collect(Collectors.toSet());
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Totals for completed claims between {@code from} and {@code to} inclusive (default: the
+     * last 30 days), optionally filtered by donor city and category and grouped by any of
+     * {@code day}, {@code category}, {@code city} and {@code unit}. An empty groupBy gives a
+     * single total row.
+     *
+     * @throws IllegalArgumentException for an unknown category or dimension, or a bad range
+     */
+    public List<ImpactStatDTO> getImpact(LocalDate from, LocalDate to, String city, String category, String groupBy) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Range is limited to " + MAX_RANGE_DAYS + " days");
+        }
+        FoodListing.FoodCategory categoryFilter = category == null || category.isBlank()
+                ? null
+                : FoodListing.FoodCategory.valueOf(category.trim().toUpperCase(Locale.ROOT));
+        String region = city == null || city.isBlank() ? null : RollupKey.normalize(city);
+        Set<Dimension> dimensions = parseDimensions(groupBy);
+
+        Map<List<Object>, ImpactStatDTO> groups = new HashMap<>();
+        for (ImpactRollup rollup : impactRollupRepository.findForRange(start, end, region, categoryFilter)) {
+            LocalDate day = dimensions.contains(Dimension.DAY) ? rollup.getDay() : null;
+            String cat = dimensions.contains(Dimension.CATEGORY) ? rollup.getCategory().name() : null;
+            String reg = dimensions.contains(Dimension.CITY) ? rollup.getRegion() : null;
+            String unit = dimensions.contains(Dimension.UNIT) ? rollup.getUnit() : null;
+            ImpactStatDTO stat = groups.computeIfAbsent(Arrays.asList(day, cat, reg, unit),
+                    k -> new ImpactStatDTO(day, cat, reg, unit, 0, 0, 0));
+            stat.setClaimsCompleted(stat.getClaimsCompleted() + rollup.getClaimsCompleted());
+            stat.setQuantitySaved(stat.getQuantitySaved() + rollup.getQuantitySaved());
+            if (rollup.getCategory() == FoodListing.FoodCategory.COOKED_MEALS && mealUnits.contains(rollup.getUnit())) {
+                stat.setMealsServed(stat.getMealsServed() + rollup.getQuantitySaved());
+            }
+        }
+        if (groups.isEmpty() && dimensions.isEmpty()) {
+            return List.of(new ImpactStatDTO(null, null, null, null, 0, 0, 0));
+        }
+        List<ImpactStatDTO> stats = new ArrayList<>(groups.values());
+        stats.sort(ORDER);
+        return stats;
+    }
+
+    /**
+     * Recomputes the rollups for whole days {@code from..to} from the claims table. Completed
+     * claim ids in the range are split into chunks aggregated in parallel, and the merged rows
+     * replace the days' rollups in one transaction. Today is never rebuilt since it is still
+     * being incremented.
+     *
+     * @param from first day; defaults to the day of the earliest completed claim still in the database
+     * @param to last day; defaults to yesterday
+     * @throws IllegalArgumentException if {@code to} is not before today, {@code from} is after it,
+     *         or {@code from} falls in the archived period whose claims are no longer in the database
+     */
+    public RollupRebuildSummary rebuild(LocalDate from, LocalDate to) {
+        long startedAt = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        LocalDate last = to != null ? to : today.minusDays(1);
+        if (!last.isBefore(today)) {
+            throw new IllegalArgumentException("Only days before today can be rebuilt");
+        }
+        LocalDate first = from != null ? from : claimRepository.findEarliestCompletedAt()
+                .map(LocalDateTime::toLocalDate)
+                .filter(day -> !day.isAfter(last))
+                .orElse(last);
+        LocalDate archivedBefore = archiveService.getClaimsArchivedBefore();
+        if (archivedBefore != null && first.isBefore(archivedBefore)) {
+            if (from != null) {
+                throw new IllegalArgumentException("Claims before " + archivedBefore + " are archived");
+            }
+            first = archivedBefore;
+        }
+        if (first.isAfter(last)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+
+        LocalDateTime start = first.atStartOfDay();
+        LocalDateTime end = last.plusDays(1).atStartOfDay();
+        Optional<Long> minId = claimRepository.findMinCompletedId(start, end);
+        Optional<Long> maxId = claimRepository.findMaxCompletedId(start, end);
+
+        List<ForkJoinTask<List<RollupDelta>>> tasks = new ArrayList<>();
+        if (minId.isPresent() && maxId.isPresent()) {
+            for (long lo = minId.get(); lo <= maxId.get(); lo += chunkSize) {
+                long fromId = lo;
+                long toId = Math.min(lo + chunkSize - 1, maxId.get());
+                tasks.add(pool.submit(() -> claimRepository.sumCompletedByRollupKey(fromId, toId, start, end)));
+            }
+        }
+
+        Map<RollupKey, long[]> totals = new HashMap<>();
+        for (ForkJoinTask<List<RollupDelta>> task : tasks) {
+            for (RollupDelta delta : task.join()) {
+                long[] sums = totals.computeIfAbsent(delta.key(), k -> new long[2]);
+                sums[0] += delta.claims();
+                sums[1] += delta.quantity();
+            }
+        }
+        List<RollupDelta> rows = new ArrayList<>(totals.size());
+        long claims = 0;
+        for (Map.Entry<RollupKey, long[]> entry : totals.entrySet()) {
+            RollupKey key = entry.getKey();
+            rows.add(new RollupDelta(key.day(), key.category(), key.region(), key.unit(),
+                    entry.getValue()[0], entry.getValue()[1]));
+            claims += entry.getValue()[0];
+        }
+        impactRollupBuffer.replaceDays(first, last, rows);
+
+        long durationMs = System.currentTimeMillis() - startedAt;
+        log.info("Rebuilt impact rollups for {}..{}: {} chunks, {} rows, {} claims in {} ms",
+                first, last, tasks.size(), rows.size(), claims, durationMs);
+        return new RollupRebuildSummary(first, last, tasks.size(), rows.size(), claims, durationMs);
+    }
+
+    private static Set<Dimension> parseDimensions(String groupBy) {
+        Set<Dimension> dimensions = EnumSet.noneOf(Dimension.class);
+        if (groupBy == null) {
+            dimensions.add(Dimension.DAY);
+            return dimensions;
+        }
+        for (String name : groupBy.split(",")) {
+            if (!name.isBlank()) {
+                dimensions.add(Dimension.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return dimensions;
+    }
+}
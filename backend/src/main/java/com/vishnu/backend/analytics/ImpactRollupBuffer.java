@@ -0,0 +1,212 @@
+package com.vishnu.backend.analytics;
+
+import com.vishnu.backend.repository.ConsumerOffsetRepository;
+import com.vishnu.backend.repository.ImpactRollupRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind increments for {@code impact_rollups}. It works the same way as
+ * {@code UserCounterBuffer}:
+ * <ul>
+ *   <li>completions add to per-key adders</li>
+ *   <li>a scheduled flush creates any missing rows, then applies the deltas as batched
+ *       {@code col = col + ?} updates in one transaction</li>
+ *   <li>failed deltas are put back for the next flush</li>
+ * </ul>
+ * A hot key (today, a busy city) costs one row update per flush instead of one per completion.
+ *
+ * <p>Completions come from the event log through {@link ImpactRollupConsumer}. Each flush also
+ * stores the log offset its deltas reach in {@code event_consumer_offsets}, in the same
+ * transaction, so every completion is counted exactly once across redeliveries and restarts.
+ */
+@Component
+public class ImpactRollupBuffer {
+    private static final Logger log = LoggerFactory.getLogger(ImpactRollupBuffer.class);
+
+    private static final String INSERT_SQL = "INSERT INTO impact_rollups (rollup_day, category, region, unit, " +
+            "claims_completed, quantity_saved, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INCREMENT_SQL = "UPDATE impact_rollups SET claims_completed = claims_completed + ?, " +
+            "quantity_saved = quantity_saved + ?, updated_at = ? " +
+            "WHERE rollup_day = ? AND category = ? AND region = ? AND unit = ?";
+
+    @Autowired
+    private ImpactRollupRepository impactRollupRepository;
+
+    @Autowired
+    private ConsumerOffsetRepository consumerOffsetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<RollupKey, Deltas> pending = new ConcurrentHashMap<>();
+    private List<Map.Entry<RollupKey, Deltas>> retired = new ArrayList<>();
+    private volatile long nextEventOffset;
+    private long storedEventOffset;
+
+    @PostConstruct
+    public void loadEventOffset() {
+        storedEventOffset = consumerOffsetRepository.findNextOffset(ImpactRollupConsumer.NAME).orElse(0L);
+        nextEventOffset = storedEventOffset;
+    }
+
+    /** The first event log offset whose completions are not in this buffer or the table yet. */
+    public long getNextEventOffset() {
+        return nextEventOffset;
+    }
+
+    /**
+     * Adds completions taken from the event log up to, not including, {@code nextEventOffset}. The
+     * caller skips events below {@link #getNextEventOffset()}; holding the lock keeps the deltas and
+     * the offset in the same flush.
+     */
+    public synchronized void addCompletions(Collection<RollupDelta> completions, long nextEventOffset) {
+        for (RollupDelta completion : completions) {
+            Deltas deltas = deltas(completion.key());
+            deltas.claims.add(completion.claims());
+            deltas.quantity.add(completion.quantity());
+        }
+        this.nextEventOffset = Math.max(this.nextEventOffset, nextEventOffset);
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Map.Entry<RollupKey, Deltas>> previouslyRetired = retired;
+        retired = new ArrayList<>();
+
+        List<RollupDelta> drained = new ArrayList<>();
+        for (Map.Entry<RollupKey, Deltas> entry : previouslyRetired) {
+            drain(entry.getKey(), entry.getValue(), drained);
+        }
+        for (Map.Entry<RollupKey, Deltas> entry : pending.entrySet()) {
+            if (!drain(entry.getKey(), entry.getValue(), drained) && pending.remove(entry.getKey(), entry.getValue())) {
+                retired.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        long eventOffset = nextEventOffset;
+        if (drained.isEmpty() && eventOffset == storedEventOffset) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!drained.isEmpty()) {
+                    insertMissing(drained);
+                    increment(drained);
+                }
+                if (eventOffset != storedEventOffset) {
+                    consumerOffsetRepository.saveNextOffset(ImpactRollupConsumer.NAME, eventOffset);
+                }
+            });
+            storedEventOffset = eventOffset;
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} impact rollups, retrying on the next flush", drained.size(), e);
+            drained.forEach(d -> {
+                Deltas deltas = deltas(d.key());
+                deltas.claims.add(d.claims());
+                deltas.quantity.add(d.quantity());
+            });
+        }
+    }
+
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        flush();
+        flush(); // drains keys the first pass retired
+    }
+
+    /**
+     * Replaces every rollup for days {@code from..to} with {@code rows} in one transaction.
+     * Pending increments are flushed first, and no flush runs while the swap is in progress.
+     */
+    public synchronized void replaceDays(LocalDate from, LocalDate to, Collection<RollupDelta> rows) {
+        flush();
+        List<RollupDelta> list = new ArrayList<>(rows);
+        transactionTemplate.executeWithoutResult(status -> {
+            impactRollupRepository.deleteByDayBetween(from, to);
+            insert(list);
+        });
+    }
+
+    private Deltas deltas(RollupKey key) {
+        return pending.computeIfAbsent(key, k -> new Deltas());
+    }
+
+    private static boolean drain(RollupKey key, Deltas deltas, List<RollupDelta> out) {
+        long claims = deltas.claims.sumThenReset();
+        long quantity = deltas.quantity.sumThenReset();
+        if (claims == 0 && quantity == 0) {
+            return false;
+        }
+        out.add(new RollupDelta(key.day(), key.category(), key.region(), key.unit(), claims, quantity));
+        return true;
+    }
+
+    private void insertMissing(List<RollupDelta> drained) {
+        Set<LocalDate> days = new HashSet<>();
+        drained.forEach(d -> days.add(d.day()));
+        Set<RollupKey> existing = new HashSet<>(impactRollupRepository.findKeysByDayIn(days));
+        List<RollupDelta> missing = new ArrayList<>();
+        for (RollupDelta d : drained) {
+            if (!existing.contains(d.key())) {
+                missing.add(new RollupDelta(d.day(), d.category(), d.region(), d.unit(), 0L, 0L));
+            }
+        }
+        insert(missing);
+    }
+
+    private void insert(List<RollupDelta> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, d) -> {
+            ps.setDate(1, Date.valueOf(d.day()));
+            ps.setString(2, d.category().name());
+            ps.setString(3, d.region());
+            ps.setString(4, d.unit());
+            ps.setLong(5, d.claims());
+            ps.setLong(6, d.quantity());
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    private void increment(List<RollupDelta> drained) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, drained, drained.size(), (ps, d) -> {
+            ps.setLong(1, d.claims());
+            ps.setLong(2, d.quantity());
+            ps.setTimestamp(3, now);
+            ps.setDate(4, Date.valueOf(d.day()));
+            ps.setString(5, d.category().name());
+            ps.setString(6, d.region());
+            ps.setString(7, d.unit());
+        });
+    }
+
+    private static final class Deltas {
+        final LongAdder claims = new LongAdder();
+        final LongAdder quantity = new LongAdder();
+    }
+}
@@ -0,0 +1,69 @@
+package com.vishnu.backend.analytics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vishnu.backend.entity.FoodListing;
+import com.vishnu.backend.events.EventConsumer;
+import com.vishnu.backend.events.EventType;
+import com.vishnu.backend.events.LoggedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Feeds CLAIM_COMPLETED events from the event log into the impact rollups. The event carries the
+ * listing's category, unit and quantity and the donor's city as they were at completion. Events
+ * below the offset the rollups already reach are skipped, so a redelivered batch is not counted
+ * twice; see {@link ImpactRollupBuffer}.
+ */
+@Component
+public class ImpactRollupConsumer implements EventConsumer {
+    static final String NAME = "analytics";
+
+    @Autowired
+    private ImpactRollupBuffer impactRollupBuffer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public long storedOffset() {
+        return impactRollupBuffer.getNextEventOffset();
+    }
+
+    @Override
+    public void accept(List<LoggedEvent> events) {
+        long from = impactRollupBuffer.getNextEventOffset();
+        List<RollupDelta> completions = new ArrayList<>();
+        for (LoggedEvent event : events) {
+            if (event.offset() < from || !EventType.CLAIM_COMPLETED.name().equals(event.type())) {
+                continue;
+            }
+            JsonNode data;
+            try {
+                data = objectMapper.readTree(event.data());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Unreadable event at offset " + event.offset(), e);
+            }
+            if (!data.hasNonNull("category")) {
+                continue;
+            }
+            RollupKey key = RollupKey.of(LocalDateTime.parse(data.get("completedAt").asText()).toLocalDate(),
+                    FoodListing.FoodCategory.valueOf(data.get("category").asText()),
+                    data.hasNonNull("city") ? data.get("city").asText() : null, data.get("unit").asText());
+            completions.add(new RollupDelta(key.day(), key.category(), key.region(), key.unit(),
+                    1L, data.get("quantity").asLong()));
+        }
+        if (!events.isEmpty()) {
+            impactRollupBuffer.addCompletions(completions, events.get(events.size() - 1).offset() + 1);
+        }
+    }
+}
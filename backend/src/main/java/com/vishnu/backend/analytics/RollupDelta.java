@@ -0,0 +1,13 @@
+package com.vishnu.backend.analytics;
+
+import com.vishnu.backend.entity.FoodListing;
+import java.time.LocalDate;
+
+/** Claim and quantity totals for one rollup key; also the target of the rebuild aggregation. */
+public record RollupDelta(LocalDate day, FoodListing.FoodCategory category, String region, String unit,
+                          Long claims, Long quantity) {
+
+    public RollupKey key() {
+        return RollupKey.of(day, category, region, unit);
+    }
+}
@@ -0,0 +1,17 @@
+package com.vishnu.backend.analytics;
+
+import com.vishnu.backend.entity.FoodListing;
+import java.time.LocalDate;
+import java.util.Locale;
+
+public record RollupKey(LocalDate day, FoodListing.FoodCategory category, String region, String unit) {
+    public static final String UNKNOWN = "unknown";
+
+    public static RollupKey of(LocalDate day, FoodListing.FoodCategory category, String city, String unit) {
+        return new RollupKey(day, category, normalize(city), normalize(unit));
+    }
+
+    static String normalize(String value) {
+        return value == null || value.isBlank() ? UNKNOWN : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,176 @@
+package com.vishnu.backend.archive;
+
+import com.vishnu.backend.cache.ReadThroughCache;
+import com.vishnu.backend.dto.ArchiveRunSummary;
+import com.vishnu.backend.dto.ClaimDTO;
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.dto.PageCursor;
+import com.vishnu.backend.dto.UserDTO;
+import com.vishnu.backend.repository.ClaimRepository;
+import com.vishnu.backend.repository.FoodListingRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves finished rows older than {@code app.archive.min-age-days} out of the hot tables into
+ * compressed segment files under {@code app.archive.dir}:
+ * <ul>
+ *   <li>COMPLETED, REJECTED and CANCELLED claims</li>
+ *   <li>CLAIMED, EXPIRED and CANCELLED listings with no claims left in the database</li>
+ * </ul>
+ * Each batch is written and forced to disk as a new segment before its rows are deleted. A
+ * crash in between leaves rows in both places; reads prefer the database copy, and the next
+ * run archives them again.
+ *
+ * <p>The donor and claimant feeds merge archived rows into their pages, so paging through
+ * history works as before. Archived rows can no longer be fetched or changed by id.
+ */
+@Service
+public class ArchiveService {
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    @Autowired
+    private FoodListingRepository foodListingRepository;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReadThroughCache<FoodListingDTO> listingCache;
+
+    @Autowired
+    private ReadThroughCache<UserDTO> userCache;
+
+    @Value("${app.archive.dir:data/archive}")
+    private String dir;
+
+    @Value("${app.archive.min-age-days:90}")
+    private int minAgeDays;
+
+    @Value("${app.archive.batch-size:10000}")
+    private int batchSize;
+
+    @Value("${app.archive.block-rows:1024}")
+    private int blockRows;
+
+    @Value("${app.archive.block-cache-mb:32}")
+    private long blockCacheMb;
+
+    private ArchiveStore<FoodListingDTO> listings;
+    private ArchiveStore<ClaimDTO> claims;
+
+    @PostConstruct
+    public void start() throws IOException {
+        Path path = Path.of(dir);
+        long cacheBytes = blockCacheMb * 1024 * 1024 / 2;
+        listings = new ArchiveStore<>(path, "listings", new ListingSegmentCodec(), blockRows, cacheBytes);
+        claims = new ArchiveStore<>(path, "claims", new ClaimSegmentCodec(), blockRows, cacheBytes);
+        listings.load();
+        claims.load();
+        log.info("Opened archive at {}: {} segments, {} rows", path.toAbsolutePath(), getSegmentCount(),
+                getArchivedRowCount());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        listings.close();
+        claims.close();
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval-ms:21600000}",
+            initialDelayString = "${app.archive.interval-ms:21600000}")
+    public synchronized ArchiveRunSummary archive() {
+        long started = System.nanoTime();
+        LocalDateTime cutoff = LocalDate.now().minusDays(minAgeDays).atStartOfDay();
+        int segmentsBefore = getSegmentCount();
+
+        int claimCount = 0;
+        List<ClaimDTO> claimBatch;
+        do {
+            claimBatch = claimRepository.findArchivable(cutoff, PageRequest.ofSize(batchSize));
+            if (!claimBatch.isEmpty()) {
+                append(claims, claimBatch, cutoff);
+                List<Long> ids = claimBatch.stream().map(ClaimDTO::getId).toList();
+                claimCount += transactionTemplate.execute(status -> claimRepository.deleteArchived(ids, cutoff));
+            }
+        } while (claimBatch.size() == batchSize);
+
+        int listingCount = 0;
+        List<FoodListingDTO> listingBatch;
+        do {
+            listingBatch = foodListingRepository.findArchivable(cutoff, PageRequest.ofSize(batchSize));
+            if (!listingBatch.isEmpty()) {
+                append(listings, listingBatch, cutoff);
+                List<Long> ids = listingBatch.stream().map(FoodListingDTO::getId).toList();
+                listingCount += transactionTemplate.execute(status -> foodListingRepository.deleteArchived(ids, cutoff));
+                listingCache.invalidateAll(ids);
+            }
+        } while (listingBatch.size() == batchSize);
+
+        long durationMs = (System.nanoTime() - started) / 1_000_000;
+        int segmentsWritten = getSegmentCount() - segmentsBefore;
+        log.info("Archived {} claims and {} listings older than {} into {} segments in {} ms",
+                claimCount, listingCount, cutoff, segmentsWritten, durationMs);
+        return new ArchiveRunSummary(cutoff, claimCount, listingCount, segmentsWritten, durationMs);
+    }
+
+    /** A donor feed page (newest first, fetched with {@code limit}) with archived listings merged in. */
+    public List<FoodListingDTO> withArchivedListings(List<FoodListingDTO> hot, Long donorId, PageCursor cursor,
+                                                     int limit) {
+        List<FoodListingDTO> rows = listings.merge(hot, donorId, cursor, limit);
+        if (rows != hot) {
+            UserDTO donor = userCache.get(donorId);
+            rows.stream()
+                    .filter(listing -> listing.getDonorName() == null && donor != null)
+                    .forEach(listing -> listing.setDonorName(donor.getName()));
+        }
+        return rows;
+    }
+
+    /** A claimant feed page (newest first, fetched with {@code limit}) with archived claims merged in. */
+    public List<ClaimDTO> withArchivedClaims(List<ClaimDTO> hot, Long claimantId, PageCursor cursor, int limit) {
+        return claims.merge(hot, claimantId, cursor, limit);
+    }
+
+    /** First day whose claims are all still in the database, or null if nothing was archived. */
+    public LocalDate getClaimsArchivedBefore() {
+        return claims.archivedBefore().map(LocalDateTime::toLocalDate).orElse(null);
+    }
+
+    public int getSegmentCount() {
+        return listings.segmentCount() + claims.segmentCount();
+    }
+
+    public long getArchivedRowCount() {
+        return listings.rowCount() + claims.rowCount();
+    }
+
+    public long getArchiveSizeBytes() {
+        return listings.sizeBytes() + claims.sizeBytes();
+    }
+
+    private static <T> void append(ArchiveStore<T> store, List<T> rows, LocalDateTime cutoff) {
+        try {
+            store.append(rows, cutoff);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archive segment", e);
+        }
+    }
+}
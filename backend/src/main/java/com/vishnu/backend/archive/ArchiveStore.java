@@ -0,0 +1,203 @@
+package com.vishnu.backend.archive;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vishnu.backend.dto.PageCursor;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The append-only segments of one archived table ({@code <table>-NNNNNN.seg} in the archive
+ * directory), with an LRU cache of inflated blocks. Decoding happens on every read, so callers
+ * always get fresh DTOs they are free to modify.
+ */
+final class ArchiveStore<T> implements Closeable {
+    private record BlockRef(Path segment, int block) {
+    }
+
+    private final Path dir;
+    private final String table;
+    private final SegmentCodec<T> codec;
+    private final int blockRows;
+    private final Comparator<T> newestFirst;
+    private final Cache<BlockRef, byte[]> blockCache;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private int nextSequence = 1;
+
+    ArchiveStore(Path dir, String table, SegmentCodec<T> codec, int blockRows, long cacheBytes) {
+        this.dir = dir;
+        this.table = table;
+        this.codec = codec;
+        this.blockRows = blockRows;
+        this.newestFirst = Comparator.comparing(codec::createdAt)
+                .thenComparingLong(codec::id)
+                .reversed();
+        this.blockCache = Caffeine.newBuilder()
+                .maximumWeight(cacheBytes)
+                .weigher((BlockRef ref, byte[] bytes) -> bytes.length)
+                .build();
+    }
+
+    /** Opens the existing segments and removes temporary files left by an interrupted write. */
+    void load() throws IOException {
+        Files.createDirectories(dir);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(dir, table + "-*.seg.tmp")) {
+            for (Path leftover : leftovers) {
+                Files.delete(leftover);
+            }
+        }
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, table + "-*.seg")) {
+            files.forEach(paths::add);
+        }
+        paths.sort(null);
+        for (Path path : paths) {
+            segments.add(Segment.open(path));
+            nextSequence = Math.max(nextSequence, sequenceOf(path) + 1);
+        }
+    }
+
+    /** Writes {@code rows} as a new segment and makes it visible to readers. */
+    synchronized void append(List<T> rows, LocalDateTime archivedBefore) throws IOException {
+        List<T> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingLong(codec::ownerId).thenComparing(newestFirst));
+        Path path = dir.resolve(String.format("%s-%06d.seg", table, nextSequence));
+        Segment.write(path, archivedBefore, sorted, codec, blockRows);
+        segments.add(Segment.open(path));
+        nextSequence++;
+    }
+
+    /**
+     * Up to {@code limit} archived rows of {@code ownerId} ordered newest first, strictly before
+     * {@code before} and, when given, strictly after {@code after}.
+     */
+    List<T> findByOwner(long ownerId, PageCursor before, PageCursor after, int limit) {
+        long beforeSecond = before.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+        long afterSecond = after == null ? Long.MIN_VALUE : after.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+        Map<Long, T> found = new LinkedHashMap<>();
+        for (Segment segment : segments) {
+            List<Segment.Block> blocks = segment.blocks();
+            for (int i = 0; i < blocks.size(); i++) {
+                Segment.Block block = blocks.get(i);
+                if (ownerId < block.minOwner() || ownerId > block.maxOwner()
+                        || block.minCreated() > beforeSecond || block.maxCreated() < afterSecond) {
+                    continue;
+                }
+                for (T row : read(segment, i)) {
+                    if (codec.ownerId(row) == ownerId && isBefore(row, before) && (after == null || isAfter(row, after))) {
+                        found.putIfAbsent(codec.id(row), row);
+                    }
+                }
+            }
+        }
+        List<T> rows = new ArrayList<>(found.values());
+        rows.sort(newestFirst);
+        return rows.size() > limit ? new ArrayList<>(rows.subList(0, limit)) : rows;
+    }
+
+    /**
+     * Merges a page of hot rows (newest first, fetched with {@code limit}) with the archived
+     * rows of the same owner and returns the first {@code limit} of the union. Blocks older than
+     * a full hot page are never read. A row present in both keeps the hot copy.
+     */
+    List<T> merge(List<T> hot, long ownerId, PageCursor before, int limit) {
+        if (segments.isEmpty()) {
+            return hot;
+        }
+        PageCursor after = null;
+        if (hot.size() >= limit) {
+            T last = hot.get(limit - 1);
+            after = new PageCursor(codec.createdAt(last), codec.id(last));
+        }
+        List<T> archived = findByOwner(ownerId, before, after, limit);
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        Map<Long, T> byId = new LinkedHashMap<>();
+        hot.forEach(row -> byId.put(codec.id(row), row));
+        archived.forEach(row -> byId.putIfAbsent(codec.id(row), row));
+        List<T> merged = new ArrayList<>(byId.values());
+        merged.sort(newestFirst);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    /** The latest cutoff any segment was archived with; every older terminal row is archived. */
+    Optional<LocalDateTime> archivedBefore() {
+        return segments.stream().map(Segment::archivedBefore).max(Comparator.naturalOrder());
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    long rowCount() {
+        return segments.stream().mapToLong(Segment::rowCount).sum();
+    }
+
+    long sizeBytes() {
+        long total = 0;
+        for (Segment segment : segments) {
+            try {
+                total += segment.sizeBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+        segments.clear();
+    }
+
+    private List<T> read(Segment segment, int block) {
+        try {
+            byte[] columns = blockCache.get(new BlockRef(segment.path(), block), ref -> {
+                try {
+                    return segment.inflate(block);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return segment.decode(block, columns, codec);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isBefore(T row, PageCursor cursor) {
+        int cmp = codec.createdAt(row).compareTo(cursor.getCreatedAt());
+        return cmp < 0 || (cmp == 0 && codec.id(row) < cursor.getId());
+    }
+
+    private boolean isAfter(T row, PageCursor cursor) {
+        int cmp = codec.createdAt(row).compareTo(cursor.getCreatedAt());
+        return cmp > 0 || (cmp == 0 && codec.id(row) > cursor.getId());
+    }
+
+    private int sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring(table.length() + 1, name.length() - ".seg".length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
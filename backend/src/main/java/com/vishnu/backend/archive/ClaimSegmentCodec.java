@@ -0,0 +1,60 @@
+package com.vishnu.backend.archive;
+
+import com.vishnu.backend.dto.ClaimDTO;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Archived claims, owned by their claimant. */
+final class ClaimSegmentCodec implements SegmentCodec<ClaimDTO> {
+    @Override
+    public long id(ClaimDTO row) {
+        return row.getId();
+    }
+
+    @Override
+    public long ownerId(ClaimDTO row) {
+        return row.getClaimantId();
+    }
+
+    @Override
+    public LocalDateTime createdAt(ClaimDTO row) {
+        return row.getCreatedAt();
+    }
+
+    @Override
+    public void write(List<ClaimDTO> rows, ColumnOutput out) throws IOException {
+        out.longs(rows, ClaimDTO::getId);
+        out.longs(rows, ClaimDTO::getListingId);
+        out.longs(rows, ClaimDTO::getClaimantId);
+        out.longs(rows, ClaimDTO::getCourierId);
+        out.strings(rows, ClaimDTO::getStatus);
+        out.strings(rows, ClaimDTO::getNotes);
+        out.times(rows, ClaimDTO::getClaimedAt);
+        out.times(rows, ClaimDTO::getCompletedAt);
+        out.times(rows, ClaimDTO::getCreatedAt);
+        out.times(rows, ClaimDTO::getUpdatedAt);
+    }
+
+    @Override
+    public List<ClaimDTO> read(ColumnInput in, int count) throws IOException {
+        Long[] ids = in.longs(count);
+        Long[] listingIds = in.longs(count);
+        Long[] claimantIds = in.longs(count);
+        Long[] courierIds = in.longs(count);
+        String[] statuses = in.strings(count);
+        String[] notes = in.strings(count);
+        LocalDateTime[] claimedAts = in.times(count);
+        LocalDateTime[] completedAts = in.times(count);
+        LocalDateTime[] createdAts = in.times(count);
+        LocalDateTime[] updatedAts = in.times(count);
+
+        List<ClaimDTO> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new ClaimDTO(ids[i], listingIds[i], claimantIds[i], courierIds[i], statuses[i], notes[i],
+                    claimedAts[i], completedAts[i], createdAts[i], updatedAts[i], null));
+        }
+        return rows;
+    }
+}
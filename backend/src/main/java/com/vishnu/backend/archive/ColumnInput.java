@@ -0,0 +1,80 @@
+package com.vishnu.backend.archive;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/** Reads the columns written by {@link ColumnOutput}, in the same order. */
+final class ColumnInput {
+    private final DataInputStream in;
+
+    ColumnInput(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    Long[] longs(int count) throws IOException {
+        Long[] values = new Long[count];
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            long encoded = readVarLong();
+            if (encoded != 0) {
+                previous += unZigZag(encoded - 1);
+                values[i] = previous;
+            }
+        }
+        return values;
+    }
+
+    String[] strings(int count) throws IOException {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            long length = readVarLong();
+            if (length != 0) {
+                byte[] bytes = new byte[(int) (length - 1)];
+                in.readFully(bytes);
+                values[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        return values;
+    }
+
+    Double[] doubles(int count) throws IOException {
+        Double[] values = new Double[count];
+        for (int i = 0; i < count; i++) {
+            if (in.readBoolean()) {
+                values[i] = in.readDouble();
+            }
+        }
+        return values;
+    }
+
+    LocalDateTime[] times(int count) throws IOException {
+        Long[] seconds = longs(count);
+        LocalDateTime[] values = new LocalDateTime[count];
+        for (int i = 0; i < count; i++) {
+            if (seconds[i] != null) {
+                values[i] = LocalDateTime.ofEpochSecond(seconds[i], (int) readVarLong(), ZoneOffset.UTC);
+            }
+        }
+        return values;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,92 @@
+package com.vishnu.backend.archive;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes a block one column at a time. Every value starts with a varint that is 0 for null:
+ * <ul>
+ *   <li>longs and timestamp seconds store the zig-zag delta from the previous value, plus one</li>
+ *   <li>strings store their UTF-8 length plus one, followed by the bytes</li>
+ * </ul>
+ * Sorted ids and nearby timestamps shrink to a byte or two before compression.
+ */
+final class ColumnOutput {
+    private final DataOutputStream out;
+
+    ColumnOutput(OutputStream out) {
+        this.out = new DataOutputStream(out);
+    }
+
+    <T> void longs(List<T> rows, Function<T, Long> column) throws IOException {
+        long previous = 0;
+        for (T row : rows) {
+            Long value = column.apply(row);
+            if (value == null) {
+                writeVarLong(0);
+            } else {
+                writeVarLong(zigZag(value - previous) + 1);
+                previous = value;
+            }
+        }
+    }
+
+    <T> void strings(List<T> rows, Function<T, String> column) throws IOException {
+        for (T row : rows) {
+            String value = column.apply(row);
+            if (value == null) {
+                writeVarLong(0);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(bytes.length + 1L);
+                out.write(bytes);
+            }
+        }
+    }
+
+    <T> void doubles(List<T> rows, Function<T, Double> column) throws IOException {
+        for (T row : rows) {
+            Double value = column.apply(row);
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeDouble(value);
+            }
+        }
+    }
+
+    /** Epoch seconds (UTC wall clock) as a delta column, then the nanos of the non-null values. */
+    <T> void times(List<T> rows, Function<T, LocalDateTime> column) throws IOException {
+        longs(rows, row -> {
+            LocalDateTime value = column.apply(row);
+            return value == null ? null : value.toEpochSecond(ZoneOffset.UTC);
+        });
+        for (T row : rows) {
+            LocalDateTime value = column.apply(row);
+            if (value != null) {
+                writeVarLong(value.getNano());
+            }
+        }
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
@@ -0,0 +1,68 @@
+package com.vishnu.backend.archive;
+
+import com.vishnu.backend.dto.FoodListingDTO;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Archived listings, owned by their donor. The donor name is not stored; readers fill it in. */
+final class ListingSegmentCodec implements SegmentCodec<FoodListingDTO> {
+    @Override
+    public long id(FoodListingDTO row) {
+        return row.getId();
+    }
+
+    @Override
+    public long ownerId(FoodListingDTO row) {
+        return row.getDonorId();
+    }
+
+    @Override
+    public LocalDateTime createdAt(FoodListingDTO row) {
+        return row.getCreatedAt();
+    }
+
+    @Override
+    public void write(List<FoodListingDTO> rows, ColumnOutput out) throws IOException {
+        out.longs(rows, FoodListingDTO::getId);
+        out.longs(rows, FoodListingDTO::getDonorId);
+        out.strings(rows, FoodListingDTO::getFoodType);
+        out.longs(rows, row -> row.getQuantity() == null ? null : row.getQuantity().longValue());
+        out.strings(rows, FoodListingDTO::getUnit);
+        out.strings(rows, FoodListingDTO::getDescription);
+        out.doubles(rows, FoodListingDTO::getLatitude);
+        out.doubles(rows, FoodListingDTO::getLongitude);
+        out.strings(rows, FoodListingDTO::getLocation);
+        out.strings(rows, FoodListingDTO::getStatus);
+        out.strings(rows, FoodListingDTO::getCategory);
+        out.times(rows, FoodListingDTO::getExpiryTime);
+        out.times(rows, FoodListingDTO::getCreatedAt);
+    }
+
+    @Override
+    public List<FoodListingDTO> read(ColumnInput in, int count) throws IOException {
+        Long[] ids = in.longs(count);
+        Long[] donorIds = in.longs(count);
+        String[] foodTypes = in.strings(count);
+        Long[] quantities = in.longs(count);
+        String[] units = in.strings(count);
+        String[] descriptions = in.strings(count);
+        Double[] latitudes = in.doubles(count);
+        Double[] longitudes = in.doubles(count);
+        String[] locations = in.strings(count);
+        String[] statuses = in.strings(count);
+        String[] categories = in.strings(count);
+        LocalDateTime[] expiryTimes = in.times(count);
+        LocalDateTime[] createdAts = in.times(count);
+
+        List<FoodListingDTO> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new FoodListingDTO(ids[i], donorIds[i], null, foodTypes[i],
+                    quantities[i] == null ? null : quantities[i].intValue(), units[i], descriptions[i],
+                    latitudes[i], longitudes[i], locations[i], statuses[i], categories[i],
+                    expiryTimes[i], createdAts[i]));
+        }
+        return rows;
+    }
+}
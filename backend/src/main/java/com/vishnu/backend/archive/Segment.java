@@ -0,0 +1,229 @@
+package com.vishnu.backend.archive;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * One immutable archive file. Rows are sorted by owner and split into blocks. Each block is
+ * written column by column and then deflated. The index at the end of the file records, for
+ * every block:
+ * <ul>
+ *   <li>its position, length and CRC</li>
+ *   <li>its owner range</li>
+ *   <li>its createdAt range, in epoch seconds</li>
+ * </ul>
+ * A lookup only inflates blocks whose ranges can contain a match.
+ *
+ * <pre>
+ * header  int magic, int version, long archivedBefore (epoch seconds), int rowCount
+ * blocks  deflated columns
+ * index   int blockCount, then per block:
+ *         long offset, int length, int crc, int rows,
+ *         long minOwner, long maxOwner, long minCreated, long maxCreated
+ * footer  long indexOffset, int magic
+ * </pre>
+ *
+ * Segments are written to a temporary file, forced to disk and then renamed, so a crash never
+ * leaves a partial segment under its final name.
+ */
+final class Segment implements Closeable {
+    private static final int MAGIC = 0x46575347;
+    private static final int VERSION = 1;
+    private static final int FOOTER_BYTES = 12;
+
+    record Block(long offset, int length, int crc, int rows,
+                 long minOwner, long maxOwner, long minCreated, long maxCreated) {
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final LocalDateTime archivedBefore;
+    private final int rowCount;
+    private final List<Block> blocks;
+
+    private Segment(Path path, FileChannel channel, LocalDateTime archivedBefore, int rowCount, List<Block> blocks) {
+        this.path = path;
+        this.channel = channel;
+        this.archivedBefore = archivedBefore;
+        this.rowCount = rowCount;
+        this.blocks = blocks;
+    }
+
+    /** Writes {@code rows}, already sorted by owner, as a new segment at {@code path}. */
+    static <T> void write(Path path, LocalDateTime archivedBefore, List<T> rows, SegmentCodec<T> codec,
+                          int blockRows) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        List<Block> blocks = new ArrayList<>();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(archivedBefore.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(rows.size());
+            for (int start = 0; start < rows.size(); start += blockRows) {
+                List<T> block = rows.subList(start, Math.min(start + blockRows, rows.size()));
+                byte[] bytes = deflate(block, codec);
+                CRC32 crc = new CRC32();
+                crc.update(bytes);
+                long minCreated = Long.MAX_VALUE;
+                long maxCreated = Long.MIN_VALUE;
+                for (T row : block) {
+                    long created = codec.createdAt(row).toEpochSecond(ZoneOffset.UTC);
+                    minCreated = Math.min(minCreated, created);
+                    maxCreated = Math.max(maxCreated, created);
+                }
+                blocks.add(new Block(out.size(), bytes.length, (int) crc.getValue(), block.size(),
+                        codec.ownerId(block.get(0)), codec.ownerId(block.get(block.size() - 1)),
+                        minCreated, maxCreated));
+                out.write(bytes);
+            }
+            long indexOffset = out.size();
+            out.writeInt(blocks.size());
+            for (Block block : blocks) {
+                out.writeLong(block.offset());
+                out.writeInt(block.length());
+                out.writeInt(block.crc());
+                out.writeInt(block.rows());
+                out.writeLong(block.minOwner());
+                out.writeLong(block.maxOwner());
+                out.writeLong(block.minCreated());
+                out.writeLong(block.maxCreated());
+            }
+            out.writeLong(indexOffset);
+            out.writeInt(MAGIC);
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Segment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            ByteBuffer footer = read(channel, size - FOOTER_BYTES, FOOTER_BYTES);
+            long indexOffset = footer.getLong();
+            ByteBuffer header = read(channel, 0, 20);
+            if (footer.getInt() != MAGIC || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not an archive segment: " + path);
+            }
+            LocalDateTime archivedBefore = LocalDateTime.ofEpochSecond(header.getLong(), 0, ZoneOffset.UTC);
+            int rowCount = header.getInt();
+
+            ByteBuffer index = read(channel, indexOffset, (int) (size - FOOTER_BYTES - indexOffset));
+            int count = index.getInt();
+            List<Block> blocks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                blocks.add(new Block(index.getLong(), index.getInt(), index.getInt(), index.getInt(),
+                        index.getLong(), index.getLong(), index.getLong(), index.getLong()));
+            }
+            return new Segment(path, channel, archivedBefore, rowCount, List.copyOf(blocks));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    LocalDateTime archivedBefore() {
+        return archivedBefore;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    List<Block> blocks() {
+        return blocks;
+    }
+
+    long sizeBytes() throws IOException {
+        return channel.size();
+    }
+
+    /** The inflated column bytes of block {@code i}; decode them with {@link #decode}. */
+    byte[] inflate(int i) throws IOException {
+        Block block = blocks.get(i);
+        byte[] compressed = read(channel, block.offset(), block.length()).array();
+        CRC32 crc = new CRC32();
+        crc.update(compressed);
+        if ((int) crc.getValue() != block.crc()) {
+            throw new IOException("Corrupt block " + i + " in " + path);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated block " + i + " in " + path);
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt block " + i + " in " + path, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    <T> List<T> decode(int i, byte[] columns, SegmentCodec<T> codec) throws IOException {
+        return codec.read(new ColumnInput(new ByteArrayInputStream(columns)), blocks.get(i).rows());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static <T> byte[] deflate(List<T> block, SegmentCodec<T> codec) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DeflaterOutputStream deflated = new DeflaterOutputStream(bytes, deflater);
+            ColumnOutput columns = new ColumnOutput(deflated);
+            codec.write(block, columns);
+            columns.flush();
+            deflated.finish();
+            return bytes.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of segment");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
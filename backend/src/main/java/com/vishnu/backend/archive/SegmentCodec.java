@@ -0,0 +1,21 @@
+package com.vishnu.backend.archive;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * How one archived table maps to segment columns. Rows are grouped into segments by owner (the
+ * donor or the claimant) and paged like the hot feeds, by {@code (createdAt DESC, id DESC)}.
+ */
+interface SegmentCodec<T> {
+    long id(T row);
+
+    long ownerId(T row);
+
+    LocalDateTime createdAt(T row);
+
+    void write(List<T> rows, ColumnOutput out) throws IOException;
+
+    List<T> read(ColumnInput in, int count) throws IOException;
+}
@@ -0,0 +1,63 @@
+package com.vishnu.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.vishnu.backend.datasource.ReplicaRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Size- and TTL-bounded cache of DTO snapshots keyed by id, loaded from the database on a miss.
+ * Missing rows are not cached. Writers invalidate after their change is committed; an
+ * invalidation waits for an in-flight load of the same key, so a load that read the old row
+ * can never outlive the invalidation that follows the write. Cached values are shared between
+ * callers and must not be mutated.
+ *
+ * <p>With a read replica, a miss inside a {@code @ReplicaRead} method loads from the replica. Keys
+ * invalidated within the last {@code primaryAfterInvalidate} load from the primary instead, so a
+ * lagging replica cannot put the pre-write row back into the cache.
+ */
+public class ReadThroughCache<V> {
+    private final LoadingCache<Long, V> cache;
+    private final Cache<Long, Boolean> recentlyInvalidated;
+
+    public ReadThroughCache(String name, long maxSize, Duration ttl, Function<Long, V> loader,
+                            Duration primaryAfterInvalidate, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(loader::apply);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        this.recentlyInvalidated = primaryAfterInvalidate.isZero() ? null : Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(primaryAfterInvalidate)
+                .build();
+    }
+
+    public V get(Long id) {
+        if (recentlyInvalidated != null && ReplicaRouting.isReplica()
+                && recentlyInvalidated.getIfPresent(id) != null) {
+            return ReplicaRouting.onPrimary(() -> cache.get(id));
+        }
+        return cache.get(id);
+    }
+
+    public void invalidate(Long id) {
+        if (recentlyInvalidated != null) {
+            recentlyInvalidated.put(id, Boolean.TRUE);
+        }
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll(Collection<Long> ids) {
+        if (recentlyInvalidated != null) {
+            ids.forEach(id -> recentlyInvalidated.put(id, Boolean.TRUE));
+        }
+        cache.invalidateAll(ids);
+    }
+}
@@ -0,0 +1,50 @@
+package com.vishnu.backend.config;
+
+import com.vishnu.backend.cache.ReadThroughCache;
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.dto.UserDTO;
+import com.vishnu.backend.repository.FoodListingRepository;
+import com.vishnu.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+
+/**
+ * Read-through caches for user and listing lookups by id. Hit, miss, eviction and size metrics
+ * are published as {@code cache.*} meters tagged with the cache name. With a read replica
+ * configured, recently invalidated keys reload from the primary for
+ * {@code app.datasource.replica.sticky-ms}.
+ */
+@Configuration
+public class CacheConfig {
+    @Value("${app.datasource.replica.url:}")
+    private String replicaUrl;
+
+    @Value("${app.datasource.replica.sticky-ms:5000}")
+    private long replicaStickyMs;
+
+    @Bean
+    public ReadThroughCache<UserDTO> userCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                                               @Value("${app.cache.users.max-size:10000}") long maxSize,
+                                               @Value("${app.cache.users.ttl-seconds:600}") long ttlSeconds) {
+        return new ReadThroughCache<>("users", maxSize, Duration.ofSeconds(ttlSeconds),
+                id -> userRepository.findById(id).map(UserDTO::fromEntity).orElse(null), primaryAfterInvalidate(),
+                meterRegistry);
+    }
+
+    @Bean
+    public ReadThroughCache<FoodListingDTO> listingCache(FoodListingRepository foodListingRepository,
+                                                         MeterRegistry meterRegistry,
+                                                         @Value("${app.cache.listings.max-size:50000}") long maxSize,
+                                                         @Value("${app.cache.listings.ttl-seconds:300}") long ttlSeconds) {
+        return new ReadThroughCache<>("listings", maxSize, Duration.ofSeconds(ttlSeconds),
+                id -> foodListingRepository.findById(id).map(FoodListingDTO::fromEntity).orElse(null),
+                primaryAfterInvalidate(), meterRegistry);
+    }
+
+    private Duration primaryAfterInvalidate() {
+        return replicaUrl.isEmpty() ? Duration.ZERO : Duration.ofMillis(replicaStickyMs);
+    }
+}
@@ -0,0 +1,60 @@
+package com.vishnu.backend.config;
+
+import com.vishnu.backend.archive.ArchiveService;
+import com.vishnu.backend.geo.ListingGeoIndex;
+import com.vishnu.backend.push.ListingPushService;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /** Backs the class-level {@code @Timed} on the services. */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /** Query, entity-load and second-level cache statistics (needs hibernate.generate_statistics). */
+    @Bean
+    public MeterBinder hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class), "entityManagerFactory",
+                Tags.empty());
+    }
+
+    @Bean
+    public MeterBinder listingIndexMetrics(ListingGeoIndex listingGeoIndex, ListingPushService listingPushService) {
+        return registry -> {
+            Gauge.builder("listings.geo.index.size", listingGeoIndex, ListingGeoIndex::size)
+                    .description("AVAILABLE listings held in the geo index")
+                    .register(registry);
+            Gauge.builder("listings.push.subscribers", listingPushService, ListingPushService::getSubscriberCount)
+                    .description("Open SSE listing subscriptions")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder archiveMetrics(ArchiveService archiveService) {
+        return registry -> {
+            Gauge.builder("archive.segments", archiveService, ArchiveService::getSegmentCount)
+                    .description("Archive segment files")
+                    .register(registry);
+            Gauge.builder("archive.rows", archiveService, ArchiveService::getArchivedRowCount)
+                    .description("Rows held in archive segments")
+                    .register(registry);
+            Gauge.builder("archive.size", archiveService, ArchiveService::getArchiveSizeBytes)
+                    .description("Size of the archive segments on disk")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.vishnu.backend.controller;
+
+import com.vishnu.backend.archive.ArchiveService;
+import com.vishnu.backend.dto.ArchiveRunSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/archive")
+public class ArchiveController {
+    @Autowired
+    private ArchiveService archiveService;
+
+    @PostMapping("/run")
+    public ResponseEntity<ArchiveRunSummary> run() {
+        return ResponseEntity.ok(archiveService.archive());
+    }
+}
@@ -1,55 +1,163 @@
 package com.vishnu.backend.controller;
 
-import com.vishnu.backend.entity.Claim;
+import com.vishnu.backend.dto.ClaimDTO;
+import com.vishnu.backend.dto.ClaimIntakeDTO;
+import com.vishnu.backend.dto.PageCursor;
+import com.vishnu.backend.dto.PageResponse;
+import com.vishnu.backend.intake.ClaimIntake;
+import com.vishnu.backend.intake.ClaimIntakeService;
 import com.vishnu.backend.service.ClaimService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.context.request.async.DeferredResult;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/claims")
 public class ClaimController {
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     @Autowired
     private ClaimService claimService;
 
+    @Autowired
+    private ClaimIntakeService claimIntakeService;
+
+    @Value("${app.claims.intake.wait-ms:2000}")
+    private long intakeWaitMs;
+
     @PostMapping
-    public ResponseEntity<Claim> createClaim(@RequestParam Long listingId, @RequestParam Long claimantId) {
-        Claim claim = claimService.createClaim(listingId, claimantId);
+    public ResponseEntity<ClaimDTO> createClaim(@RequestParam Long listingId, @RequestParam Long claimantId) {
+        ClaimDTO claim = claimService.createClaim(listingId, claimantId);
         if (claim == null) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
         return ResponseEntity.status(HttpStatus.CREATED).body(claim);
     }
 
-    @PutMapping("/{id}/approve")
-    public ResponseEntity<Claim> approveClaim(@PathVariable Long id) {
-        Claim claim = claimService.approveClaim(id);
-        if (claim == null) {
+    /**
+     * Keyed claims go through the asynchronous intake. The response waits up to
+     * {@code app.claims.intake.wait-ms} for the claim to be committed and is a 202 if it has not
+     * been by then; retrying with the same key, or polling {@code /intake}, gives the outcome.
+     */
+    @PostMapping(headers = IDEMPOTENCY_KEY)
+    public DeferredResult<ResponseEntity<ClaimIntakeDTO>> submitClaim(@RequestHeader(IDEMPOTENCY_KEY) String key,
+                                                                      @RequestParam Long listingId,
+                                                                      @RequestParam Long claimantId) {
+        DeferredResult<ResponseEntity<ClaimIntakeDTO>> result = new DeferredResult<>(intakeWaitMs);
+        ClaimIntake intake;
+        try {
+            intake = claimIntakeService.submit(listingId, claimantId, key);
+        } catch (IllegalArgumentException e) {
+            result.setResult(ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
+            return result;
+        } catch (IllegalStateException e) {
+            result.setResult(ResponseEntity.status(HttpStatus.CONFLICT).build());
+            return result;
+        } catch (RejectedExecutionException e) {
+            result.setResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1").build());
+            return result;
+        }
+        result.onTimeout(() -> result.setResult(toResponse(intake, HttpStatus.CREATED)));
+        intake.outcome().thenAccept(done -> result.setResult(toResponse(done, HttpStatus.CREATED)));
+        return result;
+    }
+
+    @GetMapping("/intake")
+    public ResponseEntity<ClaimIntakeDTO> getClaimIntake(@RequestParam Long claimantId, @RequestParam String key) {
+        ClaimIntake intake = claimIntakeService.find(claimantId, key);
+        if (intake == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
-        return ResponseEntity.ok(claim);
+        return toResponse(intake, HttpStatus.OK);
+    }
+
+    private static ResponseEntity<ClaimIntakeDTO> toResponse(ClaimIntake intake, HttpStatus created) {
+        ClaimIntakeDTO body = intake.toDTO();
+        HttpStatus status = switch (ClaimIntake.Status.valueOf(body.getStatus())) {
+            case QUEUED -> HttpStatus.ACCEPTED;
+            case CREATED -> created;
+            case REJECTED -> HttpStatus.BAD_REQUEST;
+            case FAILED -> HttpStatus.SERVICE_UNAVAILABLE;
+        };
+        return ResponseEntity.status(status).body(body);
+    }
+
+    @PutMapping("/{id}/approve")
+    public ResponseEntity<ClaimDTO> approveClaim(@PathVariable Long id) {
+        try {
+            ClaimDTO claim = claimService.approveClaim(id);
+            if (claim == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            return ResponseEntity.ok(claim);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 
     @PutMapping("/{id}/complete")
-    public ResponseEntity<Claim> completeClaim(@PathVariable Long id) {
-        Claim claim = claimService.completeClaim(id);
-        if (claim == null) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    public ResponseEntity<ClaimDTO> completeClaim(@PathVariable Long id) {
+        try {
+            ClaimDTO claim = claimService.completeClaim(id);
+            if (claim == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            return ResponseEntity.ok(claim);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PutMapping("/{id}/assign")
+    public ResponseEntity<ClaimDTO> assignCourier(@PathVariable Long id, @RequestParam Long courierId) {
+        try {
+            ClaimDTO claim = claimService.assignCourier(id, courierId);
+            if (claim == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            return ResponseEntity.ok(claim);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
-        return ResponseEntity.ok(claim);
     }
 
     @GetMapping("/claimant/{claimantId}")
-    public ResponseEntity<List<Claim>> getClaimsByClaimant(@PathVariable Long claimantId) {
-        List<Claim> claims = claimService.getClaimsByClaimant(claimantId);
-        return ResponseEntity.ok(claims);
+    public ResponseEntity<PageResponse<ClaimDTO>> getClaimsByClaimant(@PathVariable Long claimantId,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "20") int size,
+                                                                      @RequestParam(required = false) String expand) {
+        if (size < 1 || size > PageResponse.MAX_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        try {
+            return ResponseEntity.ok(claimService.getClaimsByClaimant(claimantId, PageCursor.decode(cursor), size,
+                    "listing".equals(expand)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 
     @GetMapping("/listing/{listingId}")
-    public ResponseEntity<List<Claim>> getClaimsByListing(@PathVariable Long listingId) {
-        List<Claim> claims = claimService.getClaimsByListing(listingId);
-        return ResponseEntity.ok(claims);
+    public ResponseEntity<PageResponse<ClaimDTO>> getClaimsByListing(@PathVariable Long listingId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int size,
+                                                                     @RequestParam(required = false) String expand) {
+        if (size < 1 || size > PageResponse.MAX_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        try {
+            return ResponseEntity.ok(claimService.getClaimsByListing(listingId, PageCursor.decode(cursor), size,
+                    "listing".equals(expand)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 }
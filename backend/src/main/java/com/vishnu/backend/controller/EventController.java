@@ -0,0 +1,52 @@
+package com.vishnu.backend.controller;
+
+import com.vishnu.backend.dto.EventDTO;
+import com.vishnu.backend.dto.EventPageDTO;
+import com.vishnu.backend.events.EventLogService;
+import com.vishnu.backend.events.LoggedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/events")
+public class EventController {
+    private static final int MAX_EVENTS = 1000;
+
+    @Autowired
+    private EventLogService eventLogService;
+
+    /** Reads the log from an offset, or from the first event that occurred at or after {@code since}. */
+    @GetMapping
+    public ResponseEntity<EventPageDTO> read(
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "100") int max) {
+        if (max < 1 || max > MAX_EVENTS || (from != null && from < 0)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        long start;
+        if (from != null) {
+            start = from;
+        } else if (since != null) {
+            start = eventLogService.offsetAt(since);
+        } else {
+            start = eventLogService.getStartOffset();
+        }
+        List<LoggedEvent> events = eventLogService.read(start, max);
+        long next = events.isEmpty() ? Math.max(start, eventLogService.getStartOffset())
+                : events.get(events.size() - 1).offset() + 1;
+        return ResponseEntity.ok(new EventPageDTO(events.stream().map(EventDTO::fromLogged).toList(), next,
+                eventLogService.getEndOffset()));
+    }
+
+    @GetMapping("/consumers")
+    public ResponseEntity<Map<String, Long>> getConsumerOffsets() {
+        return ResponseEntity.ok(eventLogService.getConsumerOffsets());
+    }
+}
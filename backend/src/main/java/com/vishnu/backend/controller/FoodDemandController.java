@@ -0,0 +1,43 @@
+package com.vishnu.backend.controller;
+
+import com.vishnu.backend.dto.FoodDemandDTO;
+import com.vishnu.backend.entity.FoodDemand;
+import com.vishnu.backend.service.FoodDemandService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/demands")
+public class FoodDemandController {
+    @Autowired
+    private FoodDemandService foodDemandService;
+
+    @PostMapping
+    public ResponseEntity<FoodDemandDTO> createDemand(@RequestBody FoodDemand demand, @RequestParam Long recipientId) {
+        try {
+            FoodDemandDTO created = foodDemandService.createDemand(demand, recipientId);
+            if (created == null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @GetMapping("/recipient/{recipientId}")
+    public ResponseEntity<List<FoodDemandDTO>> getRecipientDemands(@PathVariable Long recipientId) {
+        return ResponseEntity.ok(foodDemandService.getRecipientDemands(recipientId));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancelDemand(@PathVariable Long id) {
+        if (!foodDemandService.cancelDemand(id)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ResponseEntity.ok().build();
+    }
+}
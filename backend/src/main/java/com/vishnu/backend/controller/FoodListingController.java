@@ -1,12 +1,19 @@
 package com.vishnu.backend.controller;
 
+import com.vishnu.backend.dto.BulkListingResponse;
 import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.dto.PageCursor;
+import com.vishnu.backend.dto.PageResponse;
 import com.vishnu.backend.entity.FoodListing;
+import com.vishnu.backend.push.ListingPushService;
 import com.vishnu.backend.service.FoodListingService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 
 @RestController
@@ -15,6 +22,12 @@ public class FoodListingController {
     @Autowired
     private FoodListingService foodListingService;
 
+    @Autowired
+    private ListingPushService listingPushService;
+
+    @Value("${app.listings.bulk-max-items:1000}")
+    private int bulkMaxItems;
+
     @PostMapping
     public ResponseEntity<FoodListingDTO> createListing(@RequestBody FoodListing listing, @RequestParam Long donorId) {
         FoodListingDTO created = foodListingService.createListing(listing, donorId);
@@ -24,16 +37,91 @@ public class FoodListingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkListingResponse> createListings(@RequestBody List<FoodListing> listings,
+                                                              @RequestParam Long donorId) {
+        if (listings.isEmpty() || listings.size() > bulkMaxItems) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        BulkListingResponse response = foodListingService.createListings(listings, donorId);
+        if (response == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/available")
-    public ResponseEntity<List<FoodListingDTO>> getAvailableListings() {
-        List<FoodListingDTO> listings = foodListingService.getAvailableListings();
+    public ResponseEntity<PageResponse<FoodListingDTO>> getAvailableListings(@RequestParam(required = false) String cursor,
+                                                                             @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > PageResponse.MAX_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        try {
+            return ResponseEntity.ok(foodListingService.getAvailableListings(PageCursor.decode(cursor), size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<FoodListingDTO>> getNearbyListings(@RequestParam double lat,
+                                                                  @RequestParam double lng,
+                                                                  @RequestParam(defaultValue = "10") double radiusKm,
+                                                                  @RequestParam(defaultValue = "20") int limit) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180
+                || radiusKm <= 0 || radiusKm > 100 || limit < 1 || limit > 100) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        List<FoodListingDTO> listings = foodListingService.getNearbyListings(lat, lng, radiusKm, limit);
         return ResponseEntity.ok(listings);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<FoodListingDTO>> searchListings(@RequestParam String q,
+                                                               @RequestParam(defaultValue = "20") int limit) {
+        if (q.isBlank() || q.length() > 200 || limit < 1 || limit > 100) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return ResponseEntity.ok(foodListingService.searchListings(q, limit));
+    }
+
+    @GetMapping("/search/suggest")
+    public ResponseEntity<List<String>> suggestSearchTerms(@RequestParam String prefix,
+                                                           @RequestParam(defaultValue = "10") int limit) {
+        if (prefix.isBlank() || prefix.length() > 100 || limit < 1 || limit > 50) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return ResponseEntity.ok(foodListingService.suggestSearchTerms(prefix, limit));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamListings(@RequestParam double lat,
+                                                     @RequestParam double lng,
+                                                     @RequestParam(defaultValue = "10") double radiusKm,
+                                                     @RequestParam(required = false) String category) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180 || radiusKm <= 0 || radiusKm > 100) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        try {
+            FoodListing.FoodCategory foodCategory = category == null ? null : FoodListing.FoodCategory.valueOf(category);
+            return ResponseEntity.ok(listingPushService.subscribe(lat, lng, radiusKm, foodCategory));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
     @GetMapping("/donor/{donorId}")
-    public ResponseEntity<List<FoodListingDTO>> getDonorListings(@PathVariable Long donorId) {
-        List<FoodListingDTO> listings = foodListingService.getDonorListings(donorId);
-        return ResponseEntity.ok(listings);
+    public ResponseEntity<PageResponse<FoodListingDTO>> getDonorListings(@PathVariable Long donorId,
+                                                                         @RequestParam(required = false) String cursor,
+                                                                         @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > PageResponse.MAX_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        try {
+            return ResponseEntity.ok(foodListingService.getDonorListings(donorId, PageCursor.decode(cursor), size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,45 @@
+package com.vishnu.backend.controller;
+
+import com.vishnu.backend.dto.LeaderboardEntryDTO;
+import com.vishnu.backend.entity.User;
+import com.vishnu.backend.leaderboard.LeaderboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+public class LeaderboardController {
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @GetMapping("/{role}")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getTop(@PathVariable String role,
+                                                            @RequestParam(required = false) String city,
+                                                            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > 100) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        try {
+            User.UserRole userRole = User.UserRole.valueOf(role.toUpperCase());
+            if (!LeaderboardService.RANKED_ROLES.contains(userRole)) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            }
+            return ResponseEntity.ok(leaderboardService.getTop(userRole, city, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<LeaderboardEntryDTO> getRank(@PathVariable Long userId,
+                                                       @RequestParam(defaultValue = "false") boolean cityWide) {
+        LeaderboardEntryDTO rank = leaderboardService.getRank(userId, cityWide);
+        if (rank == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ResponseEntity.ok(rank);
+    }
+}
@@ -0,0 +1,19 @@
+package com.vishnu.backend.controller;
+
+import com.vishnu.backend.dto.MatchingRunSummary;
+import com.vishnu.backend.matching.MatchingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/matching")
+public class MatchingController {
+    @Autowired
+    private MatchingService matchingService;
+
+    @PostMapping("/run")
+    public ResponseEntity<MatchingRunSummary> run() {
+        return ResponseEntity.ok(matchingService.run());
+    }
+}
@@ -0,0 +1,39 @@
+package com.vishnu.backend.controller;
+
+import com.vishnu.backend.dto.RouteDTO;
+import com.vishnu.backend.routing.RoutingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/routes")
+public class RouteController {
+    @Autowired
+    private RoutingService routingService;
+
+    @GetMapping("/courier/{courierId}")
+    public ResponseEntity<RouteDTO> getRoute(@PathVariable Long courierId,
+                                             @RequestParam(required = false) Integer capacity) {
+        try {
+            RouteDTO route = routingService.planRoute(courierId, capacity);
+            if (route == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            return ResponseEntity.ok(route);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RouteDTO>> getAllRoutes(@RequestParam(required = false) Integer capacity) {
+        try {
+            return ResponseEntity.ok(routingService.planAllRoutes(capacity));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+}
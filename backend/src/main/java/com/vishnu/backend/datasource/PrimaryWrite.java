@@ -0,0 +1,16 @@
+package com.vishnu.backend.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method that writes on behalf of the authenticated caller. Once it returns, that
+ * caller's {@link ReplicaRead} calls go to the primary for {@code app.datasource.replica.sticky-ms},
+ * so they see their own write even while the replica lags.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PrimaryWrite {
+}
@@ -0,0 +1,17 @@
+package com.vishnu.backend.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method whose queries may be served by the read replica. The call stays on the
+ * primary when it runs inside a transaction or when the authenticated caller has just written
+ * (see {@link PrimaryWrite}). Only for methods that return DTOs: the queries run without the
+ * request's EntityManager, so entities they load are detached.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
@@ -0,0 +1,34 @@
+package com.vishnu.backend.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * The data source route of the current thread. Everything runs on the primary unless
+ * {@link ReplicaRoutingAspect} has entered a {@link ReplicaRead} method on this thread. Without a
+ * replica configured the route is ignored.
+ */
+public final class ReplicaRouting {
+    private static final ThreadLocal<Boolean> REPLICA = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private ReplicaRouting() {
+    }
+
+    public static boolean isReplica() {
+        return REPLICA.get();
+    }
+
+    /** Runs {@code action} on the primary, even inside a {@link ReplicaRead} method. */
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean previous = REPLICA.get();
+        REPLICA.set(Boolean.FALSE);
+        try {
+            return action.get();
+        } finally {
+            REPLICA.set(previous);
+        }
+    }
+
+    static void setReplica(boolean replica) {
+        REPLICA.set(replica);
+    }
+}
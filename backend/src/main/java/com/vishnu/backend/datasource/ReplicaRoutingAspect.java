@@ -0,0 +1,107 @@
+package com.vishnu.backend.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vishnu.backend.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+
+/**
+ * Applies {@link ReplicaRead} and {@link PrimaryWrite}. Ordered before the transaction advice, so a
+ * write is committed before its caller is pinned to the primary.
+ *
+ * <p>With open-in-view the request's EntityManager keeps the first connection it takes until the
+ * request ends. A replica read therefore sets that EntityManager aside while it runs, and its
+ * repository calls take and return their own replica connections.
+ */
+@Aspect
+@Component
+@Order(0)
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReplicaRoutingAspect {
+    private static final int MAX_TRACKED_WRITERS = 100_000;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.datasource.replica.sticky-ms:5000}")
+    private long stickyMs;
+
+    private Cache<Long, Boolean> recentWriters;
+    private Counter replicaReads;
+    private Counter pinnedReads;
+
+    @PostConstruct
+    public void init() {
+        recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_WRITERS)
+                .expireAfterWrite(Duration.ofMillis(stickyMs))
+                .build();
+        replicaReads = Counter.builder("datasource.replica.reads")
+                .description("ReplicaRead calls served by the replica")
+                .tag("route", "replica")
+                .register(meterRegistry);
+        pinnedReads = Counter.builder("datasource.replica.reads")
+                .description("ReplicaRead calls kept on the primary after the caller wrote")
+                .tag("route", "primary")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(com.vishnu.backend.datasource.ReplicaRead)")
+    public Object routeRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (ReplicaRouting.isReplica() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        Long userId = currentUserId();
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            pinnedReads.increment();
+            return joinPoint.proceed();
+        }
+
+        Object requestEntityManager = TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+        ReplicaRouting.setReplica(true);
+        try {
+            replicaReads.increment();
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRouting.setReplica(false);
+            if (requestEntityManager != null) {
+                TransactionSynchronizationManager.bindResource(entityManagerFactory, requestEntityManager);
+            }
+        }
+    }
+
+    @AfterReturning("@annotation(com.vishnu.backend.datasource.PrimaryWrite)")
+    public void pinToPrimary() {
+        Long userId = currentUserId();
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.userId();
+        }
+        return null;
+    }
+}
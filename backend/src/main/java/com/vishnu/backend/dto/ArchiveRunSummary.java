@@ -0,0 +1,17 @@
+package com.vishnu.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchiveRunSummary {
+    private LocalDateTime cutoff;
+    private int claimsArchived;
+    private int listingsArchived;
+    private int segmentsWritten;
+    private long durationMs;
+}
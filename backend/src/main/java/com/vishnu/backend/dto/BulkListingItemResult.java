@@ -0,0 +1,25 @@
+package com.vishnu.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkListingItemResult {
+    private int index;
+    private String status;
+    private FoodListingDTO listing;
+    private String error;
+
+    public static BulkListingItemResult created(int index, FoodListingDTO listing) {
+        return new BulkListingItemResult(index, "CREATED", listing, null);
+    }
+
+    public static BulkListingItemResult rejected(int index, String error) {
+        return new BulkListingItemResult(index, "REJECTED", null, error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.vishnu.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkListingResponse {
+    private int created;
+    private int rejected;
+    private List<BulkListingItemResult> results;
+}
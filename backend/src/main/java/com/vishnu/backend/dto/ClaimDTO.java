@@ -0,0 +1,53 @@
+package com.vishnu.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.vishnu.backend.entity.Claim;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClaimDTO {
+    private Long id;
+    private Long listingId;
+    private Long claimantId;
+    private Long courierId;
+    private String status;
+    private String notes;
+    private LocalDateTime claimedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private FoodListingDTO listing;
+
+    /**
+     * Target of the JPQL constructor expressions in {@code ClaimRepository}; reads only the claim
+     * row and its foreign keys, the listing is attached separately when expanded.
+     */
+    public ClaimDTO(Long id, Long listingId, Long claimantId, Long courierId, Claim.ClaimStatus status,
+                    String notes, LocalDateTime claimedAt, LocalDateTime completedAt,
+                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, listingId, claimantId, courierId, status.toString(), notes,
+                claimedAt, completedAt, createdAt, updatedAt, null);
+    }
+
+    public static ClaimDTO fromEntity(Claim claim) {
+        return new ClaimDTO(
+                claim.getId(),
+                claim.getListing().getId(),
+                claim.getClaimant().getId(),
+                claim.getCourier() == null ? null : claim.getCourier().getId(),
+                claim.getStatus(),
+                claim.getNotes(),
+                claim.getClaimedAt(),
+                claim.getCompletedAt(),
+                claim.getCreatedAt(),
+                claim.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.vishnu.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClaimIntakeDTO {
+    private String idempotencyKey;
+    private Long listingId;
+    private Long claimantId;
+    private String status;
+    private ClaimDTO claim;
+    private String error;
+}
@@ -0,0 +1,27 @@
+package com.vishnu.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.vishnu.backend.events.LoggedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventDTO {
+    private long offset;
+    private String type;
+    private long aggregateId;
+    private LocalDateTime occurredAt;
+    @JsonRawValue
+    private String data;
+
+    public static EventDTO fromLogged(LoggedEvent event) {
+        return new EventDTO(event.offset(), event.type(), event.aggregateId(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(event.occurredAtMillis()), ZoneOffset.UTC), event.data());
+    }
+}
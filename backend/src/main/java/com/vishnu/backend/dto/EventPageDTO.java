@@ -0,0 +1,15 @@
+package com.vishnu.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventPageDTO {
+    private List<EventDTO> events;
+    private long nextOffset;
+    private long endOffset;
+}
@@ -0,0 +1,40 @@
+package com.vishnu.backend.dto;
+
+import com.vishnu.backend.entity.FoodDemand;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FoodDemandDTO {
+    private Long id;
+    private Long recipientId;
+    private String category;
+    private Integer quantity;
+    private Integer remainingQuantity;
+    private String unit;
+    private Double latitude;
+    private Double longitude;
+    private Double maxDistanceKm;
+    private String status;
+    private LocalDateTime createdAt;
+
+    public static FoodDemandDTO fromEntity(FoodDemand demand) {
+        return new FoodDemandDTO(
+                demand.getId(),
+                demand.getRecipient().getId(),
+                demand.getCategory() == null ? null : demand.getCategory().toString(),
+                demand.getQuantity(),
+                demand.getRemainingQuantity(),
+                demand.getUnit(),
+                demand.getLatitude(),
+                demand.getLongitude(),
+                demand.getMaxDistanceKm(),
+                demand.getStatus().toString(),
+                demand.getCreatedAt()
+        );
+    }
+}
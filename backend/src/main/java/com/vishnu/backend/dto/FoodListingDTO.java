@@ -25,11 +25,35 @@ public class FoodListingDTO {
     private LocalDateTime expiryTime;
     private LocalDateTime createdAt;
 
+    /**
+     * Target of the JPQL constructor expressions in {@code FoodListingRepository}, which select
+     * exactly these columns in one statement instead of materialising the entity graph.
+     */
+    public FoodListingDTO(Long id, Long donorId, String donorName, String foodType, Integer quantity,
+                          String unit, String description, Double latitude, Double longitude, String location,
+                          FoodListing.ListingStatus status, FoodListing.FoodCategory category,
+                          LocalDateTime expiryTime, LocalDateTime createdAt) {
+        this(id, donorId, donorName, foodType, quantity, unit, description, latitude, longitude, location,
+                status.toString(), category.toString(), expiryTime, createdAt);
+    }
+
     public static FoodListingDTO fromEntity(FoodListing listing) {
+        return fromEntity(listing, listing.getDonor().getName());
+    }
+
+    /**
+     * For a listing saved against a donor reference ({@code getReferenceById}), taking the name
+     * from an already-loaded donor so the reference is never initialised.
+     */
+    public static FoodListingDTO fromEntity(FoodListing listing, UserDTO donor) {
+        return fromEntity(listing, donor.getName());
+    }
+
+    private static FoodListingDTO fromEntity(FoodListing listing, String donorName) {
         return new FoodListingDTO(
                 listing.getId(),
                 listing.getDonor().getId(),
-                listing.getDonor().getName(),
+                donorName,
                 listing.getFoodType(),
                 listing.getQuantity(),
                 listing.getUnit(),
@@ -37,8 +61,8 @@ public class FoodListingDTO {
                 listing.getLatitude(),
                 listing.getLongitude(),
                 listing.getLocation(),
-                listing.getStatus().toString(),
-                listing.getCategory().toString(),
+                listing.getStatus(),
+                listing.getCategory(),
                 listing.getExpiryTime(),
                 listing.getCreatedAt()
         );
@@ -0,0 +1,22 @@
+package com.vishnu.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+
+/** One row of an impact report; dimensions that were not grouped by are left out. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImpactStatDTO {
+    private LocalDate day;
+    private String category;
+    private String city;
+    private String unit;
+    private long claimsCompleted;
+    private long quantitySaved;
+    private long mealsServed;
+}
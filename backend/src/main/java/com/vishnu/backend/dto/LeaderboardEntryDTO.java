@@ -0,0 +1,18 @@
+package com.vishnu.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LeaderboardEntryDTO {
+    private int rank;
+    private int boardSize;
+    private Long userId;
+    private String name;
+    private String role;
+    private String city;
+    private Double impactScore;
+}
@@ -0,0 +1,16 @@
+package com.vishnu.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ListingDelta {
+    public static final String UPSERT = "UPSERT";
+    public static final String REMOVE = "REMOVE";
+
+    private String type;
+    private FoodListingDTO listing;
+}
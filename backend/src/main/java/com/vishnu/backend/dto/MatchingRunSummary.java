@@ -0,0 +1,15 @@
+package com.vishnu.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchingRunSummary {
+    private int listings;
+    private int demands;
+    private int claimsCreated;
+    private long durationMs;
+}
@@ -0,0 +1,36 @@
+package com.vishnu.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PageResponse<T> {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;
+    private String nextCursor;
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the extra row only
+     * signals that another page exists.
+     */
+    public static <E, T> PageResponse<T> fromRows(List<E> rows, int size, Function<E, T> mapper,
+                                                  Function<E, PageCursor> cursorOf) {
+        boolean hasMore = rows.size() > size;
+        List<E> page = hasMore ? rows.subList(0, size) : rows;
+
+        List<T> items = new ArrayList<>(page.size());
+        for (E row : page) {
+            items.add(mapper.apply(row));
+        }
+        String nextCursor = hasMore ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new PageResponse<>(items, nextCursor);
+    }
+}
@@ -0,0 +1,18 @@
+package com.vishnu.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RollupRebuildSummary {
+    private LocalDate from;
+    private LocalDate to;
+    private int chunks;
+    private int rows;
+    private long claims;
+    private long durationMs;
+}
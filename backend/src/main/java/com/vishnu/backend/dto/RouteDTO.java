@@ -0,0 +1,21 @@
+package com.vishnu.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RouteDTO {
+    private Long courierId;
+    private String courierName;
+    private int capacity;
+    private double distanceKm;
+    private LocalDateTime startAt;
+    private LocalDateTime finishAt;
+    private List<RouteStopDTO> stops;
+    private List<Long> unroutableClaimIds;
+}
@@ -0,0 +1,23 @@
+package com.vishnu.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RouteStopDTO {
+    private int sequence;
+    private String type;
+    private Long claimId;
+    private Long listingId;
+    private Double latitude;
+    private Double longitude;
+    private String place;
+    private Integer quantity;
+    private int loadAfter;
+    private LocalDateTime eta;
+    private LocalDateTime deadline;
+}
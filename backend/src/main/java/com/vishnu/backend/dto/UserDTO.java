@@ -15,6 +15,9 @@ public class UserDTO {
     private String name;
     private String phone;
     private String address;
+    private String city;
+    private Double latitude;
+    private Double longitude;
     private String role;
     private Double impactScore;
     private Integer totalDonations;
@@ -29,6 +32,9 @@ public class UserDTO {
                 user.getName(),
                 user.getPhone(),
                 user.getAddress(),
+                user.getCity(),
+                user.getLatitude(),
+                user.getLongitude(),
                 user.getRole().toString(),
                 user.getImpactScore(),
                 user.getTotalDonations(),
@@ -0,0 +1,59 @@
+package com.vishnu.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/** Open need posted by a recipient; the matching engine turns it into PENDING claims. */
+@Entity
+@Table(name = "food_demands")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FoodDemand {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recipient_id", nullable = false)
+    private User recipient;
+
+    /** Null accepts any category. */
+    @Enumerated(EnumType.STRING)
+    private FoodListing.FoodCategory category;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false)
+    private Integer remainingQuantity;
+
+    /** Only listings in the same unit are matched; null on demands posted before units were recorded. */
+    private String unit;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+
+    @Column(nullable = false)
+    private Double maxDistanceKm;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DemandStatus status = DemandStatus.OPEN;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public enum DemandStatus {
+        OPEN, MATCHED, CANCELLED
+    }
+}
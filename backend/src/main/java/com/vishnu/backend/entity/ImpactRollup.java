@@ -0,0 +1,47 @@
+package com.vishnu.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Completed-claim totals for one day, category, donor city and unit. Maintained by
+ * {@code ImpactRollupBuffer} and read by the analytics API instead of the claims table.
+ */
+@Entity
+@Table(name = "impact_rollups", uniqueConstraints =
+        @UniqueConstraint(name = "uk_impact_rollup", columnNames = {"rollup_day", "category", "region", "unit"}))
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImpactRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FoodListing.FoodCategory category;
+
+    /** Lower-cased donor city, or {@code unknown}. */
+    @Column(nullable = false, length = 100)
+    private String region;
+
+    @Column(nullable = false, length = 50)
+    private String unit;
+
+    @Column(nullable = false)
+    private Long claimsCompleted = 0L;
+
+    @Column(nullable = false)
+    private Long quantitySaved = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
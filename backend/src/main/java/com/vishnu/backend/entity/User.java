@@ -31,16 +31,23 @@ public class User {
     @Column(columnDefinition = "TEXT")
     private String address;
 
+    private String city;
+
+    private Double latitude;
+
+    private Double longitude;
+
     @Enumerated(EnumType.STRING)
     private UserRole role;
 
-    @Column(nullable = false, columnDefinition = "DOUBLE DEFAULT 0")
+    // Counters are only ever incremented in SQL by UserCounterBuffer, never written from the entity
+    @Column(nullable = false, updatable = false, columnDefinition = "DOUBLE DEFAULT 0")
     private Double impactScore = 0.0;
 
-    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    @Column(nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
     private Integer totalDonations = 0;
 
-    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    @Column(nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
     private Integer totalClaims = 0;
 
     @Column(columnDefinition = "BOOLEAN DEFAULT true")
@@ -0,0 +1,46 @@
+package com.vishnu.backend.events;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Committed offsets of the event log consumers, one small file per consumer in the offsets
+ * directory. A commit writes a temporary file and renames it over the old one.
+ */
+final class ConsumerOffsets {
+    private static final String SUFFIX = ".offset";
+
+    private final Path dir;
+    private final Map<String, Long> offsets = new ConcurrentHashMap<>();
+
+    ConsumerOffsets(Path dir) throws IOException {
+        this.dir = dir;
+        Files.createDirectories(dir);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                offsets.put(name.substring(0, name.length() - SUFFIX.length()),
+                        Long.parseLong(Files.readString(file, StandardCharsets.US_ASCII).trim()));
+            }
+        }
+    }
+
+    /** The next offset the consumer has to read, or -1 if it has never committed. */
+    long get(String consumer) {
+        return offsets.getOrDefault(consumer, -1L);
+    }
+
+    void commit(String consumer, long nextOffset) throws IOException {
+        Path file = dir.resolve(consumer + SUFFIX);
+        Path tmp = dir.resolve(consumer + SUFFIX + ".tmp");
+        Files.writeString(tmp, Long.toString(nextOffset), StandardCharsets.US_ASCII);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        offsets.put(consumer, nextOffset);
+    }
+}
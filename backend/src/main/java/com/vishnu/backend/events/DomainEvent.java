@@ -0,0 +1,12 @@
+package com.vishnu.backend.events;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/** A state change to record: what happened, to which listing or claim, and the facts consumers need. */
+public record DomainEvent(EventType type, Long aggregateId, LocalDateTime occurredAt, Map<String, Object> data) {
+
+    public static DomainEvent of(EventType type, Long aggregateId, Map<String, Object> data) {
+        return new DomainEvent(type, aggregateId, LocalDateTime.now(), data);
+    }
+}
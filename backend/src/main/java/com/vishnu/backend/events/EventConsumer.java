@@ -0,0 +1,22 @@
+package com.vishnu.backend.events;
+
+import java.util.List;
+
+/**
+ * A reader of the event log with its own committed offset. {@link EventLogService} hands each
+ * consumer the events after its offset in batches and commits the offset once {@link #accept}
+ * returns; if it throws, the same batch is offered again on the next delivery, so delivery is
+ * at least once. A consumer that must not apply an event twice stores its own offset with its
+ * effects, skips events below it and reports it from {@link #storedOffset()}.
+ */
+public interface EventConsumer {
+    /** Names the consumer's offset file; must not change once offsets have been committed. */
+    String name();
+
+    void accept(List<LoggedEvent> events);
+
+    /** The offset the consumer keeps itself, which delivery resumes from; -1 to use the offset file. */
+    default long storedOffset() {
+        return -1;
+    }
+}
@@ -0,0 +1,347 @@
+package com.vishnu.backend.events;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of events in memory-mapped, preallocated segment files named after their first
+ * offset ({@code 00000000000000000000.log}). Each record takes the next offset and is laid out as
+ * <pre>
+ * int length | int crc32 | long offset | long outboxId | long occurredAtMillis | long aggregateId
+ *     | short typeLength | type | data
+ * </pre>
+ * where length and the checksum cover everything after the checksum, and strings are UTF-8.
+ * Opening the log scans every segment once to rebuild its sparse index and ends each one at the
+ * first record whose checksum or offset does not check out, which discards a write torn by a
+ * crash. The length is written last, so a record is never half visible to that scan.
+ *
+ * <p>One thread appends at a time. Readers only see records up to the last {@link #flush()},
+ * which forces them to disk first, and read straight from the mapped pages without locking.
+ */
+public final class EventLog implements Closeable {
+    private static final int PREFIX_BYTES = 8;
+    private static final int FIXED_BYTES = 8 * 4 + 2;
+    private static final int INDEX_INTERVAL = 64;
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final List<Segment> unflushed = new ArrayList<>();
+    private final CRC32 crc = new CRC32();
+    private long nextOffset;
+    private volatile long endOffset;
+
+    private EventLog(Path dir, int segmentBytes) {
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+    }
+
+    /** Opens the log in {@code dir}, creating it if needed. */
+    public static EventLog open(Path dir, int segmentBytes) throws IOException {
+        EventLog log = new EventLog(dir, segmentBytes);
+        log.load();
+        return log;
+    }
+
+    private void load() throws IOException {
+        Files.createDirectories(dir);
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.log")) {
+            files.forEach(paths::add);
+        }
+        paths.sort(null);
+        for (Path path : paths) {
+            long baseOffset = Long.parseLong(path.getFileName().toString().replace(".log", ""));
+            Segment segment = Segment.map(path, baseOffset, (int) Math.max(Files.size(path), segmentBytes));
+            nextOffset = segment.recover();
+            segments.add(segment);
+        }
+        if (segments.isEmpty()) {
+            roll();
+        }
+        endOffset = nextOffset;
+    }
+
+    /** Appends one record and returns its offset. Readers see it after the next {@link #flush()}. */
+    public synchronized long append(long outboxId, long occurredAtMillis, String type, long aggregateId, String data) {
+        byte[] typeBytes = type.getBytes(StandardCharsets.UTF_8);
+        byte[] dataBytes = data.getBytes(StandardCharsets.UTF_8);
+        int length = FIXED_BYTES + typeBytes.length + dataBytes.length;
+        if (PREFIX_BYTES + length > segmentBytes) {
+            throw new IllegalArgumentException("Event of " + length + " bytes does not fit in a segment");
+        }
+        Segment segment = segments.get(segments.size() - 1);
+        if (segment.writePosition + PREFIX_BYTES + length > segment.capacity) {
+            segment = roll();
+        }
+
+        long offset = nextOffset;
+        MappedByteBuffer buffer = segment.buffer;
+        int position = segment.writePosition;
+        int body = position + PREFIX_BYTES;
+        buffer.putLong(body, offset);
+        buffer.putLong(body + 8, outboxId);
+        buffer.putLong(body + 16, occurredAtMillis);
+        buffer.putLong(body + 24, aggregateId);
+        buffer.putShort(body + 32, (short) typeBytes.length);
+        buffer.put(body + FIXED_BYTES, typeBytes);
+        buffer.put(body + FIXED_BYTES + typeBytes.length, dataBytes);
+        crc.reset();
+        crc.update(buffer.slice(body, length));
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.putInt(position, length);
+
+        segment.indexIfDue(offset, position, occurredAtMillis);
+        segment.writePosition = position + PREFIX_BYTES + length;
+        if (!unflushed.contains(segment)) {
+            unflushed.add(segment);
+        }
+        nextOffset = offset + 1;
+        return offset;
+    }
+
+    /** Forces appended records to disk and makes them visible to readers. */
+    public synchronized void flush() {
+        for (Segment segment : unflushed) {
+            segment.buffer.force();
+        }
+        unflushed.clear();
+        endOffset = nextOffset;
+    }
+
+    /** Up to {@code max} records starting at {@code fromOffset}, or the oldest retained one if later. */
+    public List<LoggedEvent> read(long fromOffset, int max) {
+        long end = endOffset;
+        Segment[] snapshot = segments.toArray(new Segment[0]);
+        long offset = Math.max(fromOffset, snapshot[0].baseOffset);
+        List<LoggedEvent> events = new ArrayList<>((int) Math.max(0, Math.min(max, end - offset)));
+        for (int i = floorSegment(snapshot, offset); i < snapshot.length && offset < end; i++) {
+            Segment segment = snapshot[i];
+            long limit = i + 1 < snapshot.length ? snapshot[i + 1].baseOffset : end;
+            if (offset >= limit) {
+                continue;
+            }
+            int position = segment.positionOf(offset);
+            while (offset < limit && events.size() < max) {
+                events.add(segment.decode(position));
+                position += PREFIX_BYTES + segment.buffer.getInt(position);
+                offset++;
+            }
+            if (events.size() == max) {
+                break;
+            }
+        }
+        return events;
+    }
+
+    /**
+     * The offset of the first record that occurred at or after {@code millis}, found from the
+     * sparse index and a short scan. Records are in relay order, which follows the order events
+     * occurred in to within one relay interval.
+     */
+    public long offsetAt(long millis) {
+        long end = endOffset;
+        Segment[] snapshot = segments.toArray(new Segment[0]);
+        int i = snapshot.length - 1;
+        while (i > 0 && (snapshot[i].indexSize == 0 || snapshot[i].indexTimestamps[0] >= millis)) {
+            i--;
+        }
+        for (; i < snapshot.length; i++) {
+            Segment segment = snapshot[i];
+            long limit = i + 1 < snapshot.length ? snapshot[i + 1].baseOffset : end;
+            int entry = segment.lastIndexBefore(millis);
+            long offset = entry < 0 ? segment.baseOffset : segment.indexOffsets[entry];
+            int position = entry < 0 ? 0 : segment.indexPositions[entry];
+            for (; offset < limit; offset++) {
+                if (segment.buffer.getLong(position + PREFIX_BYTES + 16) >= millis) {
+                    return offset;
+                }
+                position += PREFIX_BYTES + segment.buffer.getInt(position);
+            }
+        }
+        return end;
+    }
+
+    /** The oldest retained offset. */
+    public long startOffset() {
+        return segments.get(0).baseOffset;
+    }
+
+    /** The offset the next flushed record will get; everything below it can be read. */
+    public long endOffset() {
+        return endOffset;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Deletes whole segments, oldest first, whose records all occurred before {@code millis}
+     * (judged by the first record of the following segment). The newest segment is always kept.
+     */
+    public synchronized int deleteSegmentsBefore(long millis) throws IOException {
+        int deleted = 0;
+        while (segments.size() > 1) {
+            Segment next = segments.get(1);
+            if (next.indexSize == 0 || next.indexTimestamps[0] >= millis) {
+                break;
+            }
+            Segment oldest = segments.remove(0);
+            oldest.channel.close();
+            Files.deleteIfExists(oldest.path);
+            deleted++;
+        }
+        return deleted;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        for (Segment segment : segments) {
+            segment.channel.close();
+        }
+    }
+
+    private Segment roll() {
+        Path path = dir.resolve(String.format("%020d.log", nextOffset));
+        try {
+            Segment segment = Segment.map(path, nextOffset, segmentBytes);
+            segments.add(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create event log segment " + path, e);
+        }
+    }
+
+    private static int floorSegment(Segment[] snapshot, long offset) {
+        int low = 0;
+        int high = snapshot.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (snapshot[mid].baseOffset <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static final class Segment {
+        final Path path;
+        final long baseOffset;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        final int capacity;
+        int writePosition;
+        // Sparse index, one entry every INDEX_INTERVAL records. Arrays are replaced before the
+        // size is published, so a reader that reads the size first never indexes past the data.
+        long[] indexOffsets = new long[16];
+        int[] indexPositions = new int[16];
+        long[] indexTimestamps = new long[16];
+        volatile int indexSize;
+
+        private Segment(Path path, long baseOffset, FileChannel channel, int capacity) throws IOException {
+            this.path = path;
+            this.baseOffset = baseOffset;
+            this.channel = channel;
+            this.capacity = capacity;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+
+        static Segment map(Path path, long baseOffset, int capacity) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            return new Segment(path, baseOffset, channel, capacity);
+        }
+
+        /**
+         * Scans the segment, indexing every record that checks out, and returns the offset after
+         * the last one. Whatever follows is overwritten by the next appends; a leftover that
+         * happens to look like a record still fails the offset check.
+         */
+        long recover() {
+            CRC32 crc = new CRC32();
+            long offset = baseOffset;
+            int position = 0;
+            while (position + PREFIX_BYTES + FIXED_BYTES <= capacity) {
+                int length = buffer.getInt(position);
+                if (length < FIXED_BYTES || position + PREFIX_BYTES + length > capacity) {
+                    break;
+                }
+                crc.reset();
+                crc.update(buffer.slice(position + PREFIX_BYTES, length));
+                if ((int) crc.getValue() != buffer.getInt(position + 4)
+                        || buffer.getLong(position + PREFIX_BYTES) != offset) {
+                    break;
+                }
+                indexIfDue(offset, position, buffer.getLong(position + PREFIX_BYTES + 16));
+                position += PREFIX_BYTES + length;
+                offset++;
+            }
+            writePosition = position;
+            return offset;
+        }
+
+        void indexIfDue(long offset, int position, long occurredAtMillis) {
+            if ((offset - baseOffset) % INDEX_INTERVAL != 0) {
+                return;
+            }
+            int size = indexSize;
+            if (size == indexOffsets.length) {
+                indexOffsets = Arrays.copyOf(indexOffsets, size * 2);
+                indexPositions = Arrays.copyOf(indexPositions, size * 2);
+                indexTimestamps = Arrays.copyOf(indexTimestamps, size * 2);
+            }
+            indexOffsets[size] = offset;
+            indexPositions[size] = position;
+            indexTimestamps[size] = occurredAtMillis;
+            indexSize = size + 1;
+        }
+
+        int positionOf(long offset) {
+            int entry = (int) Math.min((offset - baseOffset) / INDEX_INTERVAL, indexSize - 1);
+            int position = indexPositions[entry];
+            for (long o = indexOffsets[entry]; o < offset; o++) {
+                position += PREFIX_BYTES + buffer.getInt(position);
+            }
+            return position;
+        }
+
+        int lastIndexBefore(long millis) {
+            int size = indexSize;
+            long[] timestamps = indexTimestamps;
+            int found = -1;
+            for (int i = 0; i < size && timestamps[i] < millis; i++) {
+                found = i;
+            }
+            return found;
+        }
+
+        LoggedEvent decode(int position) {
+            int length = buffer.getInt(position);
+            int body = position + PREFIX_BYTES;
+            int typeLength = buffer.getShort(body + 32);
+            byte[] type = new byte[typeLength];
+            byte[] data = new byte[length - FIXED_BYTES - typeLength];
+            buffer.get(body + FIXED_BYTES, type);
+            buffer.get(body + FIXED_BYTES + typeLength, data);
+            return new LoggedEvent(buffer.getLong(body), buffer.getLong(body + 8), buffer.getLong(body + 16),
+                    new String(type, StandardCharsets.UTF_8), buffer.getLong(body + 24),
+                    new String(data, StandardCharsets.UTF_8));
+        }
+    }
+}
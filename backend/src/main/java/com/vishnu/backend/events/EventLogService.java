@@ -0,0 +1,227 @@
+package com.vishnu.backend.events;
+
+import com.vishnu.backend.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relays committed outbox rows into the {@link EventLog} under {@code app.events.dir} and delivers
+ * the log to the {@link EventConsumer} beans, both on one dedicated thread every
+ * {@code relay-interval-ms}.
+ *
+ * <p>A relay batch is appended and forced to disk before its outbox rows are deleted. If the
+ * delete fails or the process dies in between, the next relay skips the rows it finds among the
+ * recent appends, which are recovered from the tail of the log on startup. A row is recognised
+ * by its id together with its time and aggregate, since the outbox's auto-increment can restart
+ * below old ids once the table is empty.
+ */
+@Service
+public class EventLogService {
+    private static final Logger log = LoggerFactory.getLogger(EventLogService.class);
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired(required = false)
+    private List<EventConsumer> consumers = List.of();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.events.dir:data/events}")
+    private String dir;
+
+    @Value("${app.events.segment-mb:64}")
+    private int segmentMb;
+
+    @Value("${app.events.relay-interval-ms:500}")
+    private long relayIntervalMs;
+
+    @Value("${app.events.relay-batch-size:1000}")
+    private int relayBatchSize;
+
+    @Value("${app.events.consumer-batch-size:500}")
+    private int consumerBatchSize;
+
+    @Value("${app.events.retention-days:30}")
+    private int retentionDays;
+
+    private EventLog eventLog;
+    private ConsumerOffsets offsets;
+    private ScheduledExecutorService relayThread;
+    private final Set<Relayed> recentlyRelayed = new LinkedHashSet<>();
+    private LocalDate retentionCheckedOn;
+    private Counter eventsRelayed;
+
+    @PostConstruct
+    public void start() throws IOException {
+        Path path = Path.of(dir);
+        eventLog = EventLog.open(path, segmentMb * 1024 * 1024);
+        offsets = new ConsumerOffsets(path.resolve("offsets"));
+        long tail = Math.max(eventLog.startOffset(), eventLog.endOffset() - 2L * relayBatchSize);
+        for (LoggedEvent event : eventLog.read(tail, 2 * relayBatchSize)) {
+            recentlyRelayed.add(new Relayed(event.outboxId(), event.occurredAtMillis(), event.aggregateId()));
+        }
+
+        eventsRelayed = Counter.builder("events.relayed")
+                .description("Outbox events appended to the event log")
+                .register(meterRegistry);
+        Gauge.builder("events.log.end.offset", eventLog, EventLog::endOffset)
+                .description("Offset the next event will be appended at")
+                .register(meterRegistry);
+        for (EventConsumer consumer : consumers) {
+            Gauge.builder("events.consumer.lag", () -> eventLog.endOffset() - committedOffset(consumer))
+                    .description("Events in the log the consumer has not committed yet")
+                    .tag("consumer", consumer.name())
+                    .register(meterRegistry);
+        }
+        log.info("Opened event log at {}: offsets {} to {} in {} segments", path.toAbsolutePath(),
+                eventLog.startOffset(), eventLog.endOffset(), eventLog.segmentCount());
+
+        relayThread = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "event-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        relayThread.scheduleWithFixedDelay(this::tick, relayIntervalMs, relayIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        relayThread.shutdown();
+        relayThread.awaitTermination(10, TimeUnit.SECONDS);
+        relay();
+        eventLog.close();
+    }
+
+    private void tick() {
+        try {
+            relay();
+            deliver();
+            enforceRetention();
+        } catch (RuntimeException | IOException e) {
+            log.warn("Event relay failed, retrying in {} ms", relayIntervalMs, e);
+        }
+    }
+
+    /** Moves committed outbox rows into the event log. Returns how many were appended. */
+    public synchronized int relay() {
+        int appended = 0;
+        List<OutboxRow> rows;
+        do {
+            rows = outboxRepository.findPending(relayBatchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Long> ids = new ArrayList<>(rows.size());
+            for (OutboxRow row : rows) {
+                ids.add(row.id());
+                long occurredAt = row.occurredAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+                if (recentlyRelayed.add(new Relayed(row.id(), occurredAt, row.aggregateId()))) {
+                    eventLog.append(row.id(), occurredAt, row.eventType(), row.aggregateId(), row.payload());
+                    appended++;
+                }
+            }
+            eventLog.flush();
+            outboxRepository.deleteAll(ids);
+            Iterator<Relayed> oldest = recentlyRelayed.iterator();
+            while (recentlyRelayed.size() > 2 * relayBatchSize) {
+                oldest.next();
+                oldest.remove();
+            }
+        } while (rows.size() == relayBatchSize);
+        eventsRelayed.increment(appended);
+        return appended;
+    }
+
+    private void deliver() throws IOException {
+        for (EventConsumer consumer : consumers) {
+            long from = committedOffset(consumer);
+            List<LoggedEvent> batch;
+            do {
+                batch = eventLog.read(from, consumerBatchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                try {
+                    consumer.accept(batch);
+                } catch (RuntimeException e) {
+                    log.warn("Event consumer {} failed at offset {}, retrying on the next delivery",
+                            consumer.name(), from, e);
+                    break;
+                }
+                from = batch.get(batch.size() - 1).offset() + 1;
+                offsets.commit(consumer.name(), from);
+            } while (batch.size() == consumerBatchSize);
+        }
+    }
+
+    private void enforceRetention() throws IOException {
+        LocalDate today = LocalDate.now();
+        if (today.equals(retentionCheckedOn)) {
+            return;
+        }
+        long cutoff = today.minusDays(retentionDays).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+        int deleted = eventLog.deleteSegmentsBefore(cutoff);
+        if (deleted > 0) {
+            log.info("Deleted {} event log segments older than {} days", deleted, retentionDays);
+        }
+        retentionCheckedOn = today;
+    }
+
+    private long committedOffset(EventConsumer consumer) {
+        long stored = consumer.storedOffset();
+        return Math.max(stored >= 0 ? stored : offsets.get(consumer.name()), eventLog.startOffset());
+    }
+
+    /** Up to {@code max} events from {@code fromOffset} on. */
+    public List<LoggedEvent> read(long fromOffset, int max) {
+        return eventLog.read(fromOffset, max);
+    }
+
+    /** The first offset at or after {@code time}. */
+    public long offsetAt(LocalDateTime time) {
+        return eventLog.offsetAt(time.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    public long getStartOffset() {
+        return eventLog.startOffset();
+    }
+
+    public long getEndOffset() {
+        return eventLog.endOffset();
+    }
+
+    /** Each consumer's committed offset, the next one it will read. */
+    public Map<String, Long> getConsumerOffsets() {
+        Map<String, Long> committed = new LinkedHashMap<>();
+        consumers.forEach(consumer -> committed.put(consumer.name(), committedOffset(consumer)));
+        return committed;
+    }
+
+    private record Relayed(long outboxId, long occurredAtMillis, long aggregateId) {
+    }
+}
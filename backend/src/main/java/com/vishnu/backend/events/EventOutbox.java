@@ -0,0 +1,49 @@
+package com.vishnu.backend.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vishnu.backend.repository.OutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records domain events in the outbox table inside the caller's transaction, so an event is
+ * stored exactly when the change it describes commits. {@link EventLogService} relays them.
+ */
+@Component
+public class EventOutbox {
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void record(DomainEvent event) {
+        record(List.of(event));
+    }
+
+    /**
+     * @throws IllegalStateException if no transaction is active
+     */
+    public void record(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Domain events must be recorded in the transaction making the change");
+        }
+        List<OutboxRow> rows = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            try {
+                rows.add(new OutboxRow(0, event.type().name(), event.aggregateId(), event.occurredAt(),
+                        objectMapper.writeValueAsString(event.data())));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Event data of " + event.type() + " is not serialisable", e);
+            }
+        }
+        outboxRepository.insertAll(rows);
+    }
+}
@@ -0,0 +1,13 @@
+package com.vishnu.backend.events;
+
+/** Domain events recorded through the outbox. The aggregate is a listing or a claim by prefix. */
+public enum EventType {
+    LISTING_CREATED,
+    LISTING_STATUS_CHANGED,
+    LISTING_CLAIMED,
+    LISTING_EXPIRED,
+    LISTING_DELETED,
+    CLAIM_CREATED,
+    CLAIM_APPROVED,
+    CLAIM_COMPLETED
+}
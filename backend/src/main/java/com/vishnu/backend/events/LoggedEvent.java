@@ -0,0 +1,9 @@
+package com.vishnu.backend.events;
+
+/**
+ * An event as stored in the {@link EventLog}: its offset in the log, the outbox row it was
+ * relayed from, when it occurred (epoch milliseconds, UTC) and its data as JSON.
+ */
+public record LoggedEvent(long offset, long outboxId, long occurredAtMillis, String type, long aggregateId,
+                          String data) {
+}
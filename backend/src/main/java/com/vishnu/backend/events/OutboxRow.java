@@ -0,0 +1,7 @@
+package com.vishnu.backend.events;
+
+import java.time.LocalDateTime;
+
+/** A row of {@code outbox_events}; the payload is the event's data as JSON. */
+public record OutboxRow(long id, String eventType, long aggregateId, LocalDateTime occurredAt, String payload) {
+}
@@ -0,0 +1,187 @@
+package com.vishnu.backend.geo;
+
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.entity.FoodListing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory grid index over AVAILABLE listings. Each listing lives in a fixed
+ * lat/lng cell; nearest-neighbour queries walk outward ring by ring and stop as
+ * soon as no unvisited cell can beat the current k-th result or the radius.
+ * Longitude cells wrap at the antimeridian, so a search near 180 degrees also
+ * sees listings just across it.
+ */
+@Component
+public class ListingGeoIndex {
+    private final double cellDegrees;
+    private final int lngCells;
+    private final double lngCellDegrees;
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Entry>> cells = new ConcurrentHashMap<>();
+
+    public ListingGeoIndex(@Value("${app.geo.cell-degrees:0.05}") double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.lngCells = (int) Math.ceil(360.0 / cellDegrees);
+        this.lngCellDegrees = 360.0 / lngCells;
+    }
+
+    public void upsert(FoodListingDTO listing) {
+        if (listing.getLatitude() == null || listing.getLongitude() == null
+                || !FoodListing.ListingStatus.AVAILABLE.name().equals(listing.getStatus())) {
+            remove(listing.getId());
+            return;
+        }
+
+        long cellKey = cellKey(latCell(listing.getLatitude()), lngCell(listing.getLongitude()));
+        Entry entry = new Entry(cellKey, listing);
+        Entry previous = byId.put(listing.getId(), entry);
+        if (previous != null && previous.cellKey() != cellKey) {
+            removeFromCell(previous);
+        }
+        cells.computeIfAbsent(cellKey, k -> new ConcurrentHashMap<>()).put(listing.getId(), entry);
+    }
+
+    /**
+     * @return the indexed snapshot that was removed, or {@code null} if the listing was not indexed
+     */
+    public FoodListingDTO remove(Long listingId) {
+        if (listingId == null) {
+            return null;
+        }
+        Entry previous = byId.remove(listingId);
+        if (previous == null) {
+            return null;
+        }
+        removeFromCell(previous);
+        return previous.listing();
+    }
+
+    public FoodListingDTO removeIfExpired(Long listingId, LocalDateTime now) {
+        Entry entry = byId.get(listingId);
+        if (entry != null && entry.listing().getExpiryTime() != null
+                && !entry.listing().getExpiryTime().isAfter(now) && byId.remove(listingId, entry)) {
+            removeFromCell(entry);
+            return entry.listing();
+        }
+        return null;
+    }
+
+    public void rebuild(Collection<FoodListingDTO> listings) {
+        byId.clear();
+        cells.clear();
+        listings.forEach(this::upsert);
+    }
+
+    public List<FoodListingDTO> snapshot() {
+        List<FoodListingDTO> listings = new ArrayList<>(byId.size());
+        byId.values().forEach(entry -> listings.add(entry.listing()));
+        return listings;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public List<FoodListingDTO> findNearest(double lat, double lng, double radiusKm, int limit) {
+        PriorityQueue<Candidate> best = new PriorityQueue<>(limit,
+                Comparator.comparingDouble(Candidate::distanceKm).reversed());
+        LocalDateTime now = LocalDateTime.now();
+
+        int baseLat = latCell(lat);
+        int baseLng = lngCell(lng);
+        double minCellKm = minCellKm(lat, radiusKm);
+        int maxRing = (int) Math.min(Math.ceil(radiusKm / minCellKm) + 1, 360.0 / cellDegrees);
+        int westmost = -(lngCells / 2);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            double ringMinKm = (ring - 1) * minCellKm;
+            if (ringMinKm > radiusKm || (best.size() == limit && ringMinKm > best.peek().distanceKm())) {
+                break;
+            }
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                boolean edgeRow = dLat == -ring || dLat == ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int dLng = -ring; dLng <= ring; dLng += step) {
+                    // once a ring is wider than the globe, skip offsets that wrap onto a column already seen
+                    if (dLng < westmost || dLng >= westmost + lngCells) {
+                        continue;
+                    }
+                    int cellLng = Math.floorMod(baseLng + dLng, lngCells);
+                    scanCell(cellKey(baseLat + dLat, cellLng), lat, lng, radiusKm, limit, now, best);
+                }
+            }
+        }
+
+        List<Candidate> ordered = new ArrayList<>(best);
+        ordered.sort(Comparator.comparingDouble(Candidate::distanceKm));
+        List<FoodListingDTO> result = new ArrayList<>(ordered.size());
+        for (Candidate candidate : ordered) {
+            result.add(candidate.listing());
+        }
+        return result;
+    }
+
+    private void scanCell(long cellKey, double lat, double lng, double radiusKm, int limit,
+                          LocalDateTime now, PriorityQueue<Candidate> best) {
+        Map<Long, Entry> cell = cells.get(cellKey);
+        if (cell == null) {
+            return;
+        }
+        for (Entry entry : cell.values()) {
+            FoodListingDTO listing = entry.listing();
+            if (listing.getExpiryTime() != null && listing.getExpiryTime().isBefore(now)) {
+                continue;
+            }
+            double distanceKm = GeoUtils.haversineKm(lat, lng, listing.getLatitude(), listing.getLongitude());
+            if (distanceKm > radiusKm) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(new Candidate(distanceKm, listing));
+            } else if (distanceKm < best.peek().distanceKm()) {
+                best.poll();
+                best.add(new Candidate(distanceKm, listing));
+            }
+        }
+    }
+
+    private void removeFromCell(Entry entry) {
+        cells.computeIfPresent(entry.cellKey(), (key, cell) -> {
+            cell.remove(entry.listing().getId(), entry);
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    private double minCellKm(double lat, double radiusKm) {
+        double farthestLat = Math.min(89.0, Math.abs(lat) + radiusKm / GeoUtils.KM_PER_DEGREE_LAT + cellDegrees);
+        double cellWidthKm = lngCellDegrees * GeoUtils.KM_PER_DEGREE_LAT;
+        return cellWidthKm * Math.cos(Math.toRadians(farthestLat));
+    }
+
+    private int latCell(double lat) {
+        return (int) Math.floor(lat / cellDegrees);
+    }
+
+    private int lngCell(double lng) {
+        return Math.floorMod((int) Math.floor((lng + 180) / lngCellDegrees), lngCells);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    private record Entry(long cellKey, FoodListingDTO listing) {
+    }
+
+    private record Candidate(double distanceKm, FoodListingDTO listing) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.vishnu.backend.intake;
+
+import com.vishnu.backend.dto.ClaimDTO;
+import com.vishnu.backend.dto.ClaimIntakeDTO;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One keyed claim request, from being queued until its batch is committed. The outcome is
+ * written once by the intake worker; {@link #outcome()} completes when it is.
+ */
+public final class ClaimIntake {
+    public enum Status {
+        QUEUED, CREATED, REJECTED, FAILED
+    }
+
+    private final IntakeKey key;
+    private final Long listingId;
+    private final CompletableFuture<ClaimIntake> outcome = new CompletableFuture<>();
+    private volatile Status status = Status.QUEUED;
+    private volatile ClaimDTO claim;
+    private volatile String error;
+
+    ClaimIntake(IntakeKey key, Long listingId) {
+        this.key = key;
+        this.listingId = listingId;
+    }
+
+    static ClaimIntake stored(IntakeKey key, ClaimDTO claim) {
+        ClaimIntake intake = new ClaimIntake(key, claim.getListingId());
+        intake.created(claim);
+        return intake;
+    }
+
+    public IntakeKey key() {
+        return key;
+    }
+
+    public Long listingId() {
+        return listingId;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public CompletableFuture<ClaimIntake> outcome() {
+        return outcome;
+    }
+
+    void created(ClaimDTO claim) {
+        this.claim = claim;
+        finish(Status.CREATED);
+    }
+
+    void rejected(String error) {
+        this.error = error;
+        finish(Status.REJECTED);
+    }
+
+    void failed(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    private void finish(Status status) {
+        this.status = status;
+        outcome.complete(this);
+    }
+
+    public ClaimIntakeDTO toDTO() {
+        Status current = status;
+        return new ClaimIntakeDTO(key.key(), listingId, key.claimantId(), current.name(), claim, error);
+    }
+}
@@ -0,0 +1,329 @@
+package com.vishnu.backend.intake;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vishnu.backend.cache.ReadThroughCache;
+import com.vishnu.backend.datasource.PrimaryWrite;
+import com.vishnu.backend.dto.ClaimDTO;
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.dto.UserDTO;
+import com.vishnu.backend.entity.Claim;
+import com.vishnu.backend.events.DomainEvent;
+import com.vishnu.backend.events.EventOutbox;
+import com.vishnu.backend.events.EventType;
+import com.vishnu.backend.repository.ClaimBatchRepository;
+import com.vishnu.backend.repository.ClaimRepository;
+import com.vishnu.backend.repository.FoodListingRepository;
+import com.vishnu.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous claim intake keyed by the client's idempotency key. A submission is remembered in
+ * a bounded store of recent keys, so a retry gets the original request back instead of a second
+ * claim, and queued on the partition its listing hashes to. Each partition has one worker that
+ * drains whatever has queued up, up to {@code batch-size}, and inserts it in one transaction:
+ * claims on a listing are committed in the order they arrived, and a surge turns into fewer,
+ * larger commits. Keys that are no longer remembered are caught by the unique index on
+ * (idempotency_key, claimant_id), which each batch checks before inserting. If a batch fails, its
+ * claims are retried one per transaction, so only the claim that cannot be stored fails.
+ */
+@Service
+public class ClaimIntakeService {
+    private static final Logger log = LoggerFactory.getLogger(ClaimIntakeService.class);
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final long POLL_MS = 100;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ClaimBatchRepository claimBatchRepository;
+
+    @Autowired
+    private FoodListingRepository foodListingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReadThroughCache<UserDTO> userCache;
+
+    @Autowired
+    private ReadThroughCache<FoodListingDTO> listingCache;
+
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.claims.intake.partitions:4}")
+    private int partitions;
+
+    @Value("${app.claims.intake.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.claims.intake.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.claims.intake.max-keys:100000}")
+    private long maxKeys;
+
+    @Value("${app.claims.intake.key-ttl-minutes:1440}")
+    private long keyTtlMinutes;
+
+    private Cache<IntakeKey, ClaimIntake> recentKeys;
+    private List<BlockingQueue<ClaimIntake>> queues;
+    private List<Thread> workers;
+    private volatile boolean running;
+
+    private Counter claimsCreated;
+    private Counter intakeCreated;
+    private Counter intakeDuplicates;
+    private Counter intakeRejected;
+    private Counter intakeFailed;
+    private DistributionSummary batchSizes;
+
+    @PostConstruct
+    public void start() {
+        recentKeys = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofMinutes(keyTtlMinutes))
+                .build();
+        queues = new ArrayList<>(partitions);
+        workers = new ArrayList<>(partitions);
+        running = true;
+        for (int i = 0; i < partitions; i++) {
+            BlockingQueue<ClaimIntake> queue = new ArrayBlockingQueue<>(queueCapacity);
+            Thread worker = new Thread(() -> work(queue), "claim-intake-" + i);
+            worker.setDaemon(true);
+            queues.add(queue);
+            workers.add(worker);
+            worker.start();
+        }
+
+        claimsCreated = Counter.builder("claims.created").register(meterRegistry);
+        intakeCreated = intakeCounter("created", "Keyed claims inserted");
+        intakeDuplicates = intakeCounter("duplicate", "Keyed claims answered with the claim already stored");
+        intakeRejected = intakeCounter("rejected", "Keyed claims for an unknown listing or claimant");
+        intakeFailed = intakeCounter("failed", "Keyed claims that could not be stored");
+        batchSizes = DistributionSummary.builder("claims.intake.batch.size")
+                .description("Claims committed per intake batch")
+                .register(meterRegistry);
+        Gauge.builder("claims.intake.queued", () -> queues.stream().mapToInt(BlockingQueue::size).sum())
+                .description("Keyed claims waiting for their batch")
+                .register(meterRegistry);
+    }
+
+    private Counter intakeCounter(String outcome, String description) {
+        return Counter.builder("claims.intake")
+                .description(description)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        for (BlockingQueue<ClaimIntake> queue : queues) {
+            List<ClaimIntake> left = new ArrayList<>();
+            queue.drainTo(left);
+            left.forEach(intake -> fail(intake, "Claim intake shut down"));
+        }
+    }
+
+    /**
+     * Queues a claim, or returns the request already made with this key.
+     *
+     * @throws IllegalArgumentException if the key is blank or longer than 64 characters
+     * @throws IllegalStateException if the key was already used for a different listing
+     * @throws RejectedExecutionException if the listing's partition is full or intake is shutting down
+     */
+    @PrimaryWrite
+    public ClaimIntake submit(@NonNull Long listingId, @NonNull Long claimantId, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        IntakeKey key = new IntakeKey(claimantId, idempotencyKey);
+        ClaimIntake intake = new ClaimIntake(key, listingId);
+        ClaimIntake previous = recentKeys.asMap().putIfAbsent(key, intake);
+        if (previous != null) {
+            if (!previous.listingId().equals(listingId)) {
+                throw new IllegalStateException("Idempotency key was used for listing " + previous.listingId());
+            }
+            return previous;
+        }
+        if (!running || !queues.get(Math.floorMod(Long.hashCode(listingId), partitions)).offer(intake)) {
+            recentKeys.asMap().remove(key, intake);
+            throw new RejectedExecutionException("Claim intake queue is full");
+        }
+        return intake;
+    }
+
+    /** The request made with this key, if it is still remembered or its claim is stored. */
+    public ClaimIntake find(@NonNull Long claimantId, @NonNull String idempotencyKey) {
+        IntakeKey key = new IntakeKey(claimantId, idempotencyKey);
+        ClaimIntake intake = recentKeys.getIfPresent(key);
+        if (intake != null) {
+            return intake;
+        }
+        return claimRepository.findDTOByIdempotencyKey(claimantId, idempotencyKey)
+                .map(claim -> ClaimIntake.stored(key, claim))
+                .orElse(null);
+    }
+
+    private void work(BlockingQueue<ClaimIntake> queue) {
+        List<ClaimIntake> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ClaimIntake first = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Claim intake batch of {} failed", batch.size(), e);
+                batch.stream()
+                        .filter(intake -> intake.status() == ClaimIntake.Status.QUEUED)
+                        .forEach(intake -> fail(intake, "Claim could not be saved"));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<ClaimIntake> batch) {
+        List<ClaimIntake> valid = new ArrayList<>(batch.size());
+        for (ClaimIntake intake : batch) {
+            if (listingCache.get(intake.listingId()) == null) {
+                reject(intake, "Listing not found");
+            } else if (userCache.get(intake.key().claimantId()) == null) {
+                reject(intake, "Claimant not found");
+            } else {
+                valid.add(intake);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        Map<IntakeKey, ClaimDTO> claims = new HashMap<>();
+        List<Claim> inserted = new ArrayList<>();
+        List<ClaimIntake> committed = valid;
+        try {
+            insert(valid, claims, inserted);
+        } catch (RuntimeException e) {
+            log.warn("Failed to commit a batch of {} intake claims, retrying them one at a time", valid.size(), e);
+            claims.clear();
+            inserted.clear();
+            committed = new ArrayList<>(valid.size());
+            for (ClaimIntake intake : valid) {
+                Map<IntakeKey, ClaimDTO> claim = new HashMap<>();
+                List<Claim> row = new ArrayList<>(1);
+                try {
+                    insert(List.of(intake), claim, row);
+                } catch (RuntimeException rowFailure) {
+                    log.warn("Failed to commit intake claim for listing {}, the client may retry with the same key",
+                            intake.listingId(), rowFailure);
+                    fail(intake, "Claim could not be saved");
+                    continue;
+                }
+                claims.putAll(claim);
+                inserted.addAll(row);
+                committed.add(intake);
+            }
+        }
+
+        batchSizes.record(inserted.size());
+        claimsCreated.increment(inserted.size());
+        intakeCreated.increment(inserted.size());
+        intakeDuplicates.increment(committed.size() - inserted.size());
+        committed.forEach(intake -> intake.created(claims.get(intake.key())));
+    }
+
+    /**
+     * Inserts the claims for these intakes in one transaction, skipping keys that are already stored,
+     * and fills {@code claims} with the claim of every key and {@code inserted} with the new rows.
+     */
+    private void insert(List<ClaimIntake> intakes, Map<IntakeKey, ClaimDTO> claims, List<Claim> inserted) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (ClaimKeyRow row : claimRepository.findKeyRows(intakes.stream().map(i -> i.key().key()).toList())) {
+                IntakeKey key = new IntakeKey(row.claimantId(), row.idempotencyKey());
+                claimRepository.findDTOById(row.claimId()).ifPresent(claim -> claims.put(key, claim));
+            }
+            Map<IntakeKey, Claim> fresh = new LinkedHashMap<>();
+            for (ClaimIntake intake : intakes) {
+                if (!claims.containsKey(intake.key())) {
+                    fresh.computeIfAbsent(intake.key(), key -> newClaim(intake));
+                }
+            }
+            List<Claim> rows = new ArrayList<>(fresh.values());
+            claimBatchRepository.insertAll(rows);
+            eventOutbox.record(rows.stream()
+                    .map(claim -> DomainEvent.of(EventType.CLAIM_CREATED, claim.getId(), Map.of(
+                            "listingId", claim.getListing().getId(), "claimantId", claim.getClaimant().getId())))
+                    .toList());
+            fresh.forEach((key, claim) -> claims.put(key, ClaimDTO.fromEntity(claim)));
+            inserted.addAll(rows);
+        });
+    }
+
+    private Claim newClaim(ClaimIntake intake) {
+        LocalDateTime now = LocalDateTime.now();
+        Claim claim = new Claim();
+        claim.setListing(foodListingRepository.getReferenceById(intake.listingId()));
+        claim.setClaimant(userRepository.getReferenceById(intake.key().claimantId()));
+        claim.setStatus(Claim.ClaimStatus.PENDING);
+        claim.setClaimedAt(now);
+        claim.setCreatedAt(now);
+        claim.setUpdatedAt(now);
+        claim.setIdempotencyKey(intake.key().key());
+        return claim;
+    }
+
+    private void reject(ClaimIntake intake, String error) {
+        intakeRejected.increment();
+        intake.rejected(error);
+    }
+
+    /** A failed request is forgotten, so a retry with the same key is queued again. */
+    private void fail(ClaimIntake intake, String error) {
+        intakeFailed.increment();
+        recentKeys.asMap().remove(intake.key(), intake);
+        intake.failed(error);
+    }
+}
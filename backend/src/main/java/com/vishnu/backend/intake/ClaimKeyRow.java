@@ -0,0 +1,5 @@
+package com.vishnu.backend.intake;
+
+/** A stored claim's id with the claimant and idempotency key it was taken under. */
+public record ClaimKeyRow(Long claimId, Long claimantId, String idempotencyKey) {
+}
@@ -0,0 +1,5 @@
+package com.vishnu.backend.intake;
+
+/** An idempotency key; keys are scoped to the claimant that sent them. */
+public record IntakeKey(Long claimantId, String key) {
+}
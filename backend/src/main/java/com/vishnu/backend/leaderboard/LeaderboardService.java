@@ -0,0 +1,163 @@
+package com.vishnu.backend.leaderboard;
+
+import com.vishnu.backend.dto.LeaderboardEntryDTO;
+import com.vishnu.backend.dto.UserDTO;
+import com.vishnu.backend.entity.User;
+import com.vishnu.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * National and per-city impact leaderboards for donors and recipients, kept in
+ * {@link RankTree}s and rebuilt from the users table at startup. Scores move when
+ * {@code UserCounterBuffer} flushes impact deltas, so the boards match the database rather
+ * than the unflushed buffer. Equal scores are ranked by user id.
+ */
+@Service
+public class LeaderboardService {
+    public static final Set<User.UserRole> RANKED_ROLES = EnumSet.of(User.UserRole.DONOR, User.UserRole.RECIPIENT);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Member> members = new HashMap<>();
+    private final Map<String, RankTree> boards = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<UserRepository.RankingView> rows = userRepository.findRankingViews(RANKED_ROLES);
+        lock.writeLock().lock();
+        try {
+            members.clear();
+            boards.clear();
+            for (UserRepository.RankingView row : rows) {
+                add(new Member(row.getId(), row.getName(), row.getRole(), row.getCity(),
+                        row.getImpactScore() == null ? 0 : row.getImpactScore()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Adds a new user or picks up a name or city change; the score is left as it is. */
+    public void upsertUser(UserDTO user) {
+        User.UserRole role = User.UserRole.valueOf(user.getRole());
+        if (!RANKED_ROLES.contains(role)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Member existing = members.get(user.getId());
+            double score = existing != null ? existing.score() : user.getImpactScore() == null ? 0 : user.getImpactScore();
+            if (existing != null) {
+                remove(existing);
+            }
+            add(new Member(user.getId(), user.getName(), role, user.getCity(), score));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Applies flushed impact deltas (userId to points). */
+    public void addImpact(Map<Long, Double> deltas) {
+        lock.writeLock().lock();
+        try {
+            deltas.forEach((userId, points) -> {
+                Member member = members.get(userId);
+                if (member != null && points != 0) {
+                    remove(member);
+                    add(member.withScore(member.score() + points));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Top {@code limit} users of a role, nationally or within {@code city} when it is given. */
+    public List<LeaderboardEntryDTO> getTop(User.UserRole role, String city, int limit) {
+        lock.readLock().lock();
+        try {
+            RankTree board = boards.get(boardKey(role, city));
+            if (board == null) {
+                return List.of();
+            }
+            List<Long> ids = board.top(limit);
+            List<LeaderboardEntryDTO> entries = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                entries.add(toEntry(members.get(ids.get(i)), i + 1, board.size()));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The user's rank on their role's national board, or on their city board; null if not ranked. */
+    public LeaderboardEntryDTO getRank(Long userId, boolean cityWide) {
+        lock.readLock().lock();
+        try {
+            Member member = members.get(userId);
+            if (member == null || (cityWide && member.cityKey() == null)) {
+                return null;
+            }
+            RankTree board = boards.get(cityWide ? boardKey(member.role(), member.city()) : boardKey(member.role(), null));
+            return toEntry(member, board.rank(member.score(), userId), board.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Member member) {
+        members.put(member.userId(), member);
+        boards.computeIfAbsent(boardKey(member.role(), null), k -> new RankTree()).insert(member.score(), member.userId());
+        if (member.cityKey() != null) {
+            boards.computeIfAbsent(boardKey(member.role(), member.city()), k -> new RankTree())
+                    .insert(member.score(), member.userId());
+        }
+    }
+
+    private void remove(Member member) {
+        members.remove(member.userId());
+        boards.get(boardKey(member.role(), null)).remove(member.score(), member.userId());
+        if (member.cityKey() != null) {
+            boards.get(boardKey(member.role(), member.city())).remove(member.score(), member.userId());
+        }
+    }
+
+    private static String boardKey(User.UserRole role, String city) {
+        String cityKey = normalizeCity(city);
+        return cityKey == null ? role.name() : role.name() + "|" + cityKey;
+    }
+
+    private static String normalizeCity(String city) {
+        return city == null || city.isBlank() ? null : city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static LeaderboardEntryDTO toEntry(Member member, int rank, int boardSize) {
+        return new LeaderboardEntryDTO(rank, boardSize, member.userId(), member.name(), member.role().name(),
+                member.city(), member.score());
+    }
+
+    private record Member(long userId, String name, User.UserRole role, String city, double score) {
+        String cityKey() {
+            return normalizeCity(city);
+        }
+
+        Member withScore(double newScore) {
+            return new Member(userId, name, role, city, newScore);
+        }
+    }
+}
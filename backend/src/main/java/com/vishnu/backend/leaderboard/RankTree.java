@@ -0,0 +1,145 @@
+package com.vishnu.backend.leaderboard;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Order-statistic treap of (score, userId), ordered by score descending and then userId
+ * ascending so every member has a distinct rank. Each node carries its subtree size, which
+ * makes insert, remove and rank O(log n) expected and top-N O(log n + N). Not thread-safe.
+ */
+class RankTree {
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(double score, long userId) {
+        Node[] parts = split(root, score, userId);
+        root = merge(merge(parts[0], new Node(score, userId)), parts[1]);
+    }
+
+    void remove(double score, long userId) {
+        root = remove(root, score, userId);
+    }
+
+    /** 1-based rank of the entry, which must be present. */
+    int rank(double score, long userId) {
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(score, userId, node);
+            if (cmp == 0) {
+                return before + size(node.left) + 1;
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                before += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        throw new IllegalStateException("User " + userId + " is not ranked");
+    }
+
+    /** User ids of the first {@code limit} entries, best first. */
+    List<Long> top(int limit) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, size()));
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while (ids.size() < limit && (node != null || !stack.isEmpty())) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            ids.add(node.userId);
+            node = node.right;
+        }
+        return ids;
+    }
+
+    private static int compare(double score, long userId, Node node) {
+        int cmp = Double.compare(node.score, score);
+        return cmp != 0 ? cmp : Long.compare(userId, node.userId);
+    }
+
+    /** Splits into entries ordered before (score, userId) and the rest. */
+    private static Node[] split(Node node, double score, long userId) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (compare(score, userId, node) > 0) {
+            Node[] parts = split(node.right, score, userId);
+            node.right = parts[0];
+            node.update();
+            parts[0] = node;
+            return parts;
+        }
+        Node[] parts = split(node.left, score, userId);
+        node.left = parts[1];
+        node.update();
+        parts[1] = node;
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node remove(Node node, double score, long userId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, userId, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, score, userId);
+        } else {
+            node.right = remove(node.right, score, userId);
+        }
+        node.update();
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        final double score;
+        final long userId;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(double score, long userId) {
+            this.score = score;
+            this.userId = userId;
+        }
+
+        void update() {
+            size = 1 + RankTree.size(left) + RankTree.size(right);
+        }
+    }
+}
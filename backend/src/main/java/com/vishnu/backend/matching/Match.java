@@ -0,0 +1,4 @@
+package com.vishnu.backend.matching;
+
+public record Match(long listingId, long demandId, long recipientId, int quantity, double distanceKm) {
+}
@@ -0,0 +1,12 @@
+package com.vishnu.backend.matching;
+
+import com.vishnu.backend.entity.FoodListing;
+
+/**
+ * Target of the JPQL constructor expression in {@code FoodDemandRepository}; a null category accepts
+ * any, a null unit matches nothing.
+ */
+public record MatchDemand(Long id, Long recipientId, Double latitude, Double longitude,
+                          FoodListing.FoodCategory category, Integer remainingQuantity, String unit,
+                          Double maxDistanceKm) {
+}
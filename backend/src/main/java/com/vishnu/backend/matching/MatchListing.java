@@ -0,0 +1,15 @@
+package com.vishnu.backend.matching;
+
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.entity.FoodListing;
+import java.time.LocalDateTime;
+
+public record MatchListing(long id, double latitude, double longitude, FoodListing.FoodCategory category,
+                           int quantity, String unit, LocalDateTime expiryTime) {
+
+    public static MatchListing fromDTO(FoodListingDTO listing) {
+        return new MatchListing(listing.getId(), listing.getLatitude(), listing.getLongitude(),
+                FoodListing.FoodCategory.valueOf(listing.getCategory()), listing.getQuantity(), listing.getUnit(),
+                listing.getExpiryTime());
+    }
+}
@@ -0,0 +1,198 @@
+package com.vishnu.backend.matching;
+
+import com.vishnu.backend.geo.GeoUtils;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Greedy batch assignment of listings to recipient demand. Listings are partitioned into fixed
+ * lat/lng regions that run in parallel on a fork-join pool. Inside a region, listings are taken
+ * in expiryTime order (soonest first), and each goes to the nearest compatible demand in the same
+ * unit with quantity left and within that demand's maxDistanceKm, consuming at most what the
+ * demand still needs. Nearest-demand lookups use a grid over all demands that is walked ring by
+ * ring, as in {@code ListingGeoIndex}, so a listing reaches demands in neighbouring regions too.
+ *
+ * <p>A listing can only reach demands up to {@code halo} regions away, where the halo covers the
+ * largest maxDistanceKm. Regions are run in phases: two regions share a phase only if they are at
+ * least {@code 2 * halo + 1} regions apart, so no demand is reachable from two regions of one
+ * phase. A demand near a boundary goes to whichever neighbouring region's phase runs first.
+ */
+public class MatchingEngine {
+    private static final Comparator<MatchListing> EXPIRY_ORDER = Comparator
+            .comparing(MatchListing::expiryTime)
+            .thenComparingLong(MatchListing::id);
+
+    private final double regionDegrees;
+    private final double cellDegrees;
+
+    public MatchingEngine(double regionDegrees, double cellDegrees) {
+        this.regionDegrees = regionDegrees;
+        this.cellDegrees = cellDegrees;
+    }
+
+    public List<Match> match(List<MatchListing> listings, List<MatchDemand> demands, ForkJoinPool pool) {
+        DemandGrid grid = new DemandGrid(demands);
+        Map<Long, List<MatchListing>> listingsByRegion = new HashMap<>();
+        double maxAbsLat = 0;
+        for (MatchListing listing : listings) {
+            listingsByRegion.computeIfAbsent(regionKey(listing.latitude(), listing.longitude()), k -> new ArrayList<>())
+                    .add(listing);
+            maxAbsLat = Math.max(maxAbsLat, Math.abs(listing.latitude()));
+        }
+
+        int stride = 2 * haloRegions(grid.maxDistanceKm, maxAbsLat) + 1;
+        Map<Integer, List<List<MatchListing>>> phases = new TreeMap<>();
+        listingsByRegion.forEach((region, regionListings) -> phases
+                .computeIfAbsent(phase(region, stride), k -> new ArrayList<>())
+                .add(regionListings));
+
+        List<Match> matches = new ArrayList<>();
+        for (List<List<MatchListing>> phase : phases.values()) {
+            List<ForkJoinTask<List<Match>>> tasks = new ArrayList<>();
+            for (List<MatchListing> regionListings : phase) {
+                tasks.add(pool.submit(() -> matchRegion(regionListings, grid)));
+            }
+            for (ForkJoinTask<List<Match>> task : tasks) {
+                matches.addAll(task.join());
+            }
+        }
+        return matches;
+    }
+
+    private List<Match> matchRegion(List<MatchListing> listings, DemandGrid grid) {
+        List<MatchListing> ordered = new ArrayList<>(listings);
+        ordered.sort(EXPIRY_ORDER);
+
+        List<Match> matches = new ArrayList<>();
+        for (MatchListing listing : ordered) {
+            Slot slot = grid.nearest(listing);
+            if (slot != null) {
+                double distanceKm = GeoUtils.haversineKm(listing.latitude(), listing.longitude(), slot.latitude, slot.longitude);
+                int quantity = Math.min(listing.quantity(), slot.remaining);
+                matches.add(new Match(listing.id(), slot.demand.id(), slot.demand.recipientId(), quantity, distanceKm));
+                slot.remaining -= quantity;
+            }
+        }
+        return matches;
+    }
+
+    /** Regions a listing may reach beyond its own: maxDistanceKm in degrees, longitude taken at the far latitude. */
+    private int haloRegions(double maxDistanceKm, double maxAbsLat) {
+        double latDegrees = maxDistanceKm / GeoUtils.KM_PER_DEGREE_LAT;
+        double farthestLat = Math.min(89.0, maxAbsLat + latDegrees);
+        double lngDegrees = latDegrees / Math.cos(Math.toRadians(farthestLat));
+        return Math.max(1, (int) Math.ceil(Math.max(latDegrees, lngDegrees) / regionDegrees));
+    }
+
+    private static int phase(long regionKey, int stride) {
+        int latRegion = (int) (regionKey >> 32);
+        int lngRegion = (int) regionKey;
+        return Math.floorMod(latRegion, stride) * stride + Math.floorMod(lngRegion, stride);
+    }
+
+    private long regionKey(double lat, double lng) {
+        return cellKey((int) Math.floor(lat / regionDegrees), (int) Math.floor(lng / regionDegrees));
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    /**
+     * Demands by grid cell. The cells are never modified after construction, so regions can search
+     * them concurrently; an exhausted demand stays in its cell and is skipped.
+     */
+    private final class DemandGrid {
+        private final Map<Long, List<Slot>> cells = new HashMap<>();
+        private double maxDistanceKm;
+
+        DemandGrid(List<MatchDemand> demands) {
+            for (MatchDemand demand : demands) {
+                Slot slot = new Slot(demand);
+                cells.computeIfAbsent(cellKey(latCell(demand.latitude()), lngCell(demand.longitude())),
+                        k -> new ArrayList<>()).add(slot);
+                maxDistanceKm = Math.max(maxDistanceKm, slot.maxDistanceKm);
+            }
+        }
+
+        Slot nearest(MatchListing listing) {
+            double lat = listing.latitude();
+            double lng = listing.longitude();
+            int baseLat = latCell(lat);
+            int baseLng = lngCell(lng);
+            String unit = normalizeUnit(listing.unit());
+            double farthestLat = Math.min(89.0, Math.abs(lat) + maxDistanceKm / GeoUtils.KM_PER_DEGREE_LAT + cellDegrees);
+            double minCellKm = cellDegrees * GeoUtils.KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(farthestLat));
+            int maxRing = (int) Math.min(Math.ceil(maxDistanceKm / minCellKm) + 1, 360.0 / cellDegrees);
+
+            Slot best = null;
+            double bestKm = Double.MAX_VALUE;
+            for (int ring = 0; ring <= maxRing; ring++) {
+                double ringMinKm = (ring - 1) * minCellKm;
+                if (ringMinKm > maxDistanceKm || ringMinKm > bestKm) {
+                    break;
+                }
+                for (int dLat = -ring; dLat <= ring; dLat++) {
+                    boolean edgeRow = dLat == -ring || dLat == ring;
+                    int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                    for (int dLng = -ring; dLng <= ring; dLng += step) {
+                        List<Slot> cell = cells.get(cellKey(baseLat + dLat, baseLng + dLng));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (Slot slot : cell) {
+                            if (slot.remaining <= 0 || slot.unit == null || !slot.unit.equals(unit)
+                                    || slot.demand.category() != null && slot.demand.category() != listing.category()) {
+                                continue;
+                            }
+                            double km = GeoUtils.haversineKm(lat, lng, slot.latitude, slot.longitude);
+                            if (km <= slot.maxDistanceKm && km < bestKm) {
+                                best = slot;
+                                bestKm = km;
+                            }
+                        }
+                    }
+                }
+            }
+            return best;
+        }
+
+        private int latCell(double lat) {
+            return (int) Math.floor(lat / cellDegrees);
+        }
+
+        private int lngCell(double lng) {
+            return (int) Math.floor(lng / cellDegrees);
+        }
+    }
+
+    private static String normalizeUnit(String unit) {
+        return unit == null ? null : unit.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Remaining quantity is only written by the region that reached the demand in the current phase. */
+    private static final class Slot {
+        final MatchDemand demand;
+        final String unit;
+        final double latitude;
+        final double longitude;
+        final double maxDistanceKm;
+        int remaining;
+
+        Slot(MatchDemand demand) {
+            this.demand = demand;
+            this.unit = normalizeUnit(demand.unit());
+            this.latitude = demand.latitude();
+            this.longitude = demand.longitude();
+            this.maxDistanceKm = demand.maxDistanceKm();
+            this.remaining = demand.remainingQuantity();
+        }
+    }
+}
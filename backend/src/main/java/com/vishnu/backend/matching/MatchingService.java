@@ -0,0 +1,198 @@
+package com.vishnu.backend.matching;
+
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.dto.MatchingRunSummary;
+import com.vishnu.backend.events.DomainEvent;
+import com.vishnu.backend.events.EventOutbox;
+import com.vishnu.backend.events.EventType;
+import com.vishnu.backend.geo.ListingGeoIndex;
+import com.vishnu.backend.repository.ClaimRepository;
+import com.vishnu.backend.repository.FoodDemandRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Periodically matches AVAILABLE listings without pending claims against open demand and
+ * records each match as a PENDING claim for the donor to approve. The listing snapshot comes
+ * from the geo index. Claims, their CLAIM_CREATED events and the demand decrements are written as
+ * JDBC batches in one transaction, and only for listings and demands still open when it commits.
+ */
+@Service
+public class MatchingService {
+    private static final Logger log = LoggerFactory.getLogger(MatchingService.class);
+
+    // inserts nothing when the listing was claimed or expired after the snapshot was taken
+    private static final String INSERT_CLAIM_SQL = "INSERT INTO claims (listing_id, claimant_id, status, notes, " +
+            "claimed_at, created_at, updated_at) SELECT id, ?, 'PENDING', ?, ?, ?, ? FROM food_listings " +
+            "WHERE id = ? AND status = 'AVAILABLE' AND expiry_time > ?";
+    // status is assigned first: MySQL evaluates SET left to right against already-updated columns
+    private static final String CONSUME_DEMAND_SQL = "UPDATE food_demands SET " +
+            "status = CASE WHEN remaining_quantity <= ? THEN 'MATCHED' ELSE status END, " +
+            "remaining_quantity = GREATEST(remaining_quantity - ?, 0), updated_at = ? WHERE id = ? AND status = 'OPEN'";
+    private static final String DELETE_CLAIM_SQL = "DELETE FROM claims WHERE id = ?";
+
+    @Autowired
+    private ListingGeoIndex listingGeoIndex;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private FoodDemandRepository foodDemandRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.matching.region-degrees:0.5}")
+    private double regionDegrees;
+
+    @Value("${app.matching.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    @Value("${app.matching.parallelism:0}")
+    private int parallelism;
+
+    private MatchingEngine engine;
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void start() {
+        engine = new MatchingEngine(regionDegrees, cellDegrees);
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${app.matching.interval-ms:300000}",
+            initialDelayString = "${app.matching.interval-ms:300000}")
+    public synchronized MatchingRunSummary run() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<Long> pending = new HashSet<>(claimRepository.findListingIdsWithPendingClaims());
+        List<MatchListing> listings = new ArrayList<>();
+        for (FoodListingDTO listing : listingGeoIndex.snapshot()) {
+            if (!pending.contains(listing.getId()) && listing.getExpiryTime().isAfter(now)) {
+                listings.add(MatchListing.fromDTO(listing));
+            }
+        }
+        List<MatchDemand> demands = foodDemandRepository.findOpenForMatching();
+
+        List<Match> matches = listings.isEmpty() || demands.isEmpty()
+                ? List.of()
+                : engine.match(listings, demands, pool);
+        int saved = matches.isEmpty() ? 0 : save(matches, now);
+
+        long durationMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("Matched {} of {} listings to {} open demands in {} ms, {} dropped as claimed or closed since",
+                saved, listings.size(), demands.size(), durationMs, matches.size() - saved);
+        return new MatchingRunSummary(listings.size(), demands.size(), saved, durationMs);
+    }
+
+    /**
+     * Saves the matches whose listing is still AVAILABLE and whose demand is still OPEN, and returns how many
+     * were saved. Listings are checked by the claim insert itself; a demand closed since the snapshot makes its
+     * decrement update no row, and the claims just inserted for it are deleted again.
+     */
+    private int save(List<Match> matches, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return transactionTemplate.execute(status -> {
+            KeyHolder keys = new GeneratedKeyHolder();
+            int[] inserted = jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement(INSERT_CLAIM_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Match m = matches.get(i);
+                            ps.setLong(1, m.recipientId());
+                            ps.setString(2, String.format("Matched automatically, %.1f km away", m.distanceKm()));
+                            ps.setTimestamp(3, timestamp);
+                            ps.setTimestamp(4, timestamp);
+                            ps.setTimestamp(5, timestamp);
+                            ps.setLong(6, m.listingId());
+                            ps.setTimestamp(7, timestamp);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return matches.size();
+                        }
+                    }, keys);
+            Iterator<Map<String, Object>> generated = keys.getKeyList().iterator();
+            Map<Long, Match> saved = new LinkedHashMap<>();
+            for (int i = 0; i < matches.size(); i++) {
+                if (inserted[i] > 0) {
+                    saved.put(((Number) generated.next().values().iterator().next()).longValue(), matches.get(i));
+                }
+            }
+            if (saved.isEmpty()) {
+                return 0;
+            }
+
+            Map<Long, Integer> consumed = new HashMap<>();
+            saved.values().forEach(m -> consumed.merge(m.demandId(), m.quantity(), Integer::sum));
+            List<Map.Entry<Long, Integer>> demandUpdates = new ArrayList<>(consumed.entrySet());
+            int[] applied = jdbcTemplate.batchUpdate(CONSUME_DEMAND_SQL, demandUpdates, demandUpdates.size(),
+                    (ps, e) -> {
+                        ps.setInt(1, e.getValue());
+                        ps.setInt(2, e.getValue());
+                        ps.setTimestamp(3, timestamp);
+                        ps.setLong(4, e.getKey());
+                    })[0];
+            Set<Long> closed = new HashSet<>();
+            for (int i = 0; i < demandUpdates.size(); i++) {
+                if (applied[i] == 0) {
+                    closed.add(demandUpdates.get(i).getKey());
+                }
+            }
+            if (!closed.isEmpty()) {
+                List<Long> dropped = saved.entrySet().stream()
+                        .filter(e -> closed.contains(e.getValue().demandId()))
+                        .map(Map.Entry::getKey)
+                        .toList();
+                jdbcTemplate.batchUpdate(DELETE_CLAIM_SQL, dropped, dropped.size(), (ps, id) -> ps.setLong(1, id));
+                dropped.forEach(saved::remove);
+            }
+
+            List<DomainEvent> events = new ArrayList<>(saved.size());
+            saved.forEach((claimId, m) -> events.add(DomainEvent.of(EventType.CLAIM_CREATED, claimId,
+                    Map.of("listingId", m.listingId(), "claimantId", m.recipientId(), "matched", true))));
+            eventOutbox.record(events);
+            return saved.size();
+        });
+    }
+}
@@ -0,0 +1,248 @@
+package com.vishnu.backend.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.dto.ListingDelta;
+import com.vishnu.backend.entity.FoodListing;
+import com.vishnu.backend.geo.GeoUtils;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes listing deltas over SSE to subscribers whose area contains the listing. Subscribers
+ * are registered in every coarse geo cell their circle overlaps, and each cell is pinned to one
+ * of a fixed set of single-threaded fan-out stripes, so a burst of listings in one busy city
+ * only ever queues behind its own stripe. Fan-out only queues events on the subscriptions and
+ * never touches a socket. Each subscription is written by a drain on the writer stripe of its
+ * id, so its emitter has a single writer and a stalled client holds up only its writer stripe,
+ * for at most the container's write timeout. A subscriber that falls {@code max-pending-events}
+ * behind, or whose send fails, is completed with an error. Publishing never blocks the caller.
+ */
+@Service
+public class ListingPushService {
+    private static final Logger log = LoggerFactory.getLogger(ListingPushService.class);
+    private static final double CELL_DEGREES = 0.5;
+
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+    private final int maxPendingEvents;
+    private final ExecutorService[] fanoutStripes;
+    private final ExecutorService[] writerStripes;
+    private final Map<Long, Set<ListingSubscription>> cells = new ConcurrentHashMap<>();
+    private final Set<ListingSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextSubscriptionId = new AtomicLong();
+
+    public ListingPushService(ObjectMapper objectMapper,
+                              @Value("${app.push.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                              @Value("${app.push.fanout-threads:8}") int fanoutThreads,
+                              @Value("${app.push.writer-threads:8}") int writerThreads,
+                              @Value("${app.push.queue-capacity:10000}") int queueCapacity,
+                              @Value("${app.push.max-pending-events:256}") int maxPendingEvents) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxPendingEvents = maxPendingEvents;
+        this.fanoutStripes = stripes("listing-push-", fanoutThreads, queueCapacity);
+        this.writerStripes = stripes("listing-push-writer-", writerThreads, queueCapacity);
+    }
+
+    private static ExecutorService[] stripes(String prefix, int threads, int queueCapacity) {
+        ExecutorService[] stripes = new ExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            String name = prefix + i;
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), r -> {
+                        Thread thread = new Thread(r, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        return stripes;
+    }
+
+    public SseEmitter subscribe(double lat, double lng, double radiusKm, FoodListing.FoodCategory category) {
+        return register(new SseEmitter(emitterTimeoutMs), lat, lng, radiusKm, category);
+    }
+
+    SseEmitter register(SseEmitter emitter, double lat, double lng, double radiusKm,
+                        FoodListing.FoodCategory category) {
+        ListingSubscription subscription = new ListingSubscription(nextSubscriptionId.incrementAndGet(),
+                lat, lng, radiusKm, category, emitter, coveringCells(lat, lng, radiusKm));
+
+        subscriptions.add(subscription);
+        for (Long cellKey : subscription.cellKeys()) {
+            cells.computeIfAbsent(cellKey, k -> ConcurrentHashMap.newKeySet()).add(subscription);
+        }
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(e -> unsubscribe(subscription));
+        return emitter;
+    }
+
+    /**
+     * Publishes the listing's current state: an UPSERT while it is AVAILABLE, otherwise a REMOVE.
+     */
+    public void publish(FoodListingDTO listing) {
+        boolean available = FoodListing.ListingStatus.AVAILABLE.name().equals(listing.getStatus());
+        publish(new ListingDelta(available ? ListingDelta.UPSERT : ListingDelta.REMOVE, listing));
+    }
+
+    public void publishRemoval(FoodListingDTO listing) {
+        publish(new ListingDelta(ListingDelta.REMOVE, listing));
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.push.heartbeat-ms:30000}")
+    public void heartbeat() {
+        for (ListingSubscription subscription : subscriptions) {
+            deliver(subscription, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService stripe : fanoutStripes) {
+            stripe.shutdownNow();
+        }
+        for (ExecutorService stripe : writerStripes) {
+            stripe.shutdownNow();
+        }
+        subscriptions.forEach(subscription -> subscription.emitter().complete());
+    }
+
+    private void publish(ListingDelta delta) {
+        FoodListingDTO listing = delta.getListing();
+        if (listing.getLatitude() == null || listing.getLongitude() == null) {
+            return;
+        }
+        long cellKey = cellKey(cellIndex(listing.getLatitude()), cellIndex(listing.getLongitude()));
+        Set<ListingSubscription> cell = cells.get(cellKey);
+        if (cell == null || cell.isEmpty()) {
+            return;
+        }
+        boolean queued = dispatch(fanoutStripes, cellKey, () -> {
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(delta);
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to serialise listing delta for listing {}", listing.getId(), e);
+                return;
+            }
+            for (ListingSubscription subscription : cell) {
+                if (subscription.matches(listing)) {
+                    // a builder accumulates its output as it is sent, so each subscriber gets its own
+                    deliver(subscription, SseEmitter.event().name("listing").data(json));
+                }
+            }
+        });
+        if (!queued) {
+            log.warn("Dropping listing push for cell {}, fan-out queue is full", cellKey);
+        }
+    }
+
+    private void deliver(ListingSubscription subscription, SseEmitter.SseEventBuilder event) {
+        if (!subscription.offer(event, maxPendingEvents)) {
+            close(subscription, new IllegalStateException("Subscriber is more than " + maxPendingEvents +
+                    " events behind"));
+        }
+        scheduleDrain(subscription);
+    }
+
+    private void scheduleDrain(ListingSubscription subscription) {
+        if (subscription.startDrain() && !dispatch(writerStripes, subscription.id(), () -> drain(subscription))) {
+            subscription.endDrain();
+            log.warn("Closing listing push subscription {}, writer queue is full", subscription.id());
+            unsubscribe(subscription);
+        }
+    }
+
+    /** Writes the subscription's queued events; runs on its writer stripe only, one drain at a time. */
+    private void drain(ListingSubscription subscription) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while (subscription.failure() == null && (event = subscription.poll()) != null) {
+                try {
+                    subscription.emitter().send(event);
+                } catch (IOException | IllegalStateException e) {
+                    close(subscription, e);
+                }
+            }
+            if (subscription.failure() != null && subscription.complete()) {
+                try {
+                    subscription.emitter().completeWithError(subscription.failure());
+                } catch (RuntimeException e) {
+                    log.debug("Listing push subscription {} was already closed", subscription.id(), e);
+                }
+            }
+            subscription.endDrain();
+        } while (subscription.needsDrain() && subscription.startDrain());
+    }
+
+    /** Stops fan-out to the subscription at once; its drain completes the emitter. */
+    private void close(ListingSubscription subscription, Throwable cause) {
+        subscription.fail(cause);
+        unsubscribe(subscription);
+    }
+
+    private static boolean dispatch(ExecutorService[] stripes, long key, Runnable task) {
+        try {
+            stripes[Math.floorMod(Long.hashCode(key), stripes.length)].execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void unsubscribe(ListingSubscription subscription) {
+        if (!subscriptions.remove(subscription)) {
+            return;
+        }
+        for (Long cellKey : subscription.cellKeys()) {
+            cells.computeIfPresent(cellKey, (key, cell) -> {
+                cell.remove(subscription);
+                return cell.isEmpty() ? null : cell;
+            });
+        }
+    }
+
+    private static List<Long> coveringCells(double lat, double lng, double radiusKm) {
+        double latSpan = radiusKm / GeoUtils.KM_PER_DEGREE_LAT;
+        double lngSpan = latSpan / Math.max(0.01, Math.cos(Math.toRadians(Math.min(89.0, Math.abs(lat) + latSpan))));
+
+        List<Long> keys = new ArrayList<>();
+        for (int latCell = cellIndex(lat - latSpan); latCell <= cellIndex(lat + latSpan); latCell++) {
+            for (int lngCell = cellIndex(lng - lngSpan); lngCell <= cellIndex(lng + lngSpan); lngCell++) {
+                keys.add(cellKey(latCell, lngCell));
+            }
+        }
+        return keys;
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+}
@@ -0,0 +1,108 @@
+package com.vishnu.backend.push;
+
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.entity.FoodListing;
+import com.vishnu.backend.geo.GeoUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One SSE subscriber and its outbox. Events are queued here by any fan-out thread and written to
+ * the emitter by one drain at a time, so the emitter only ever has a single writer.
+ */
+final class ListingSubscription {
+    private final long id;
+    private final double lat;
+    private final double lng;
+    private final double radiusKm;
+    private final FoodListing.FoodCategory category;
+    private final SseEmitter emitter;
+    private final List<Long> cellKeys;
+    private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile Throwable failure;
+
+    ListingSubscription(long id, double lat, double lng, double radiusKm, FoodListing.FoodCategory category,
+                        SseEmitter emitter, List<Long> cellKeys) {
+        this.id = id;
+        this.lat = lat;
+        this.lng = lng;
+        this.radiusKm = radiusKm;
+        this.category = category;
+        this.emitter = emitter;
+        this.cellKeys = cellKeys;
+    }
+
+    long id() {
+        return id;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    List<Long> cellKeys() {
+        return cellKeys;
+    }
+
+    boolean matches(FoodListingDTO listing) {
+        if (category != null && !category.name().equals(listing.getCategory())) {
+            return false;
+        }
+        return GeoUtils.haversineKm(lat, lng, listing.getLatitude(), listing.getLongitude()) <= radiusKm;
+    }
+
+    /** Queues an event, or returns false if {@code maxPending} are already waiting. */
+    boolean offer(SseEmitter.SseEventBuilder event, int maxPending) {
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            return false;
+        }
+        pending.add(event);
+        return true;
+    }
+
+    SseEmitter.SseEventBuilder poll() {
+        SseEmitter.SseEventBuilder event = pending.poll();
+        if (event != null) {
+            pendingCount.decrementAndGet();
+        }
+        return event;
+    }
+
+    /** True if a drain has work: queued events while healthy, or completing the emitter once failed. */
+    boolean needsDrain() {
+        return failure == null ? !pending.isEmpty() : !completed.get();
+    }
+
+    /** True if the caller now owns the drain and must schedule it. */
+    boolean startDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void endDrain() {
+        draining.set(false);
+    }
+
+    /** Marks the subscription failed; its drain completes the emitter with this cause. */
+    void fail(Throwable cause) {
+        if (failure == null) {
+            failure = cause;
+        }
+    }
+
+    Throwable failure() {
+        return failure;
+    }
+
+    /** True the first time it is called, for the one drain that completes the emitter. */
+    boolean complete() {
+        return completed.compareAndSet(false, true);
+    }
+}
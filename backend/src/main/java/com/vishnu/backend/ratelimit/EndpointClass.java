@@ -0,0 +1,90 @@
+package com.vishnu.backend.ratelimit;
+
+import org.springframework.web.util.UriUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/** Groups of API endpoints that share one set of rate limits. */
+public enum EndpointClass {
+    /** Login and registration: unauthenticated and password hashing on every call. */
+    AUTH,
+    /** GET requests. */
+    READ,
+    /** POST, PUT and DELETE requests not covered by another class. */
+    WRITE,
+    /** Runs that scan or rebuild whole tables: bulk upload, matching, routing, archival, analytics. */
+    BATCH;
+
+    private static final String API_PREFIX = "/api/";
+    private static final List<String> AUTH_PATHS = List.of("/api/auth/login", "/api/auth/register");
+    private static final List<String> BATCH_PATHS = List.of("/api/listings/bulk", "/api/matching", "/api/routes",
+            "/api/archive", "/api/analytics");
+
+    /**
+     * The class of a request, or null for requests that are not limited (outside /api, preflight). The path
+     * is the raw request URI; it is normalized the way it will be routed first, so an encoded or padded
+     * spelling of a path gets the same class as the plain one.
+     */
+    public static EndpointClass of(String method, String rawPath) {
+        String path = normalize(rawPath);
+        if (!path.startsWith(API_PREFIX) || "OPTIONS".equals(method)) {
+            return null;
+        }
+        if (under(path, AUTH_PATHS)) {
+            return AUTH;
+        }
+        if (under(path, BATCH_PATHS)) {
+            return BATCH;
+        }
+        return "GET".equals(method) || "HEAD".equals(method) ? READ : WRITE;
+    }
+
+    /**
+     * Decodes each segment, drops path parameters ({@code ;jsessionid=...}), empty and {@code .} segments
+     * and resolves {@code ..}. Paths without any of those are returned as they are.
+     */
+    static String normalize(String path) {
+        if (path.indexOf('%') < 0 && path.indexOf(';') < 0 && !path.contains("//") && !path.contains("/.")) {
+            return path;
+        }
+        Deque<String> segments = new ArrayDeque<>();
+        for (String segment : path.split("/")) {
+            int parameters = segment.indexOf(';');
+            if (parameters >= 0) {
+                segment = segment.substring(0, parameters);
+            }
+            segment = decode(segment);
+            if ("..".equals(segment)) {
+                segments.pollLast();
+            } else if (!segment.isEmpty() && !".".equals(segment)) {
+                segments.addLast(segment);
+            }
+        }
+        return "/" + String.join("/", segments);
+    }
+
+    /** The decoded segment, or the segment as it is when its escapes are malformed. */
+    private static String decode(String segment) {
+        if (segment.indexOf('%') < 0) {
+            return segment;
+        }
+        try {
+            return UriUtils.decode(segment, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return segment;
+        }
+    }
+
+    /** True if the path is one of the prefixes itself or below it; "/api/routes" does not cover "/api/routesX". */
+    private static boolean under(String path, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)
+                    && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,103 @@
+package com.vishnu.backend.ratelimit;
+
+import com.vishnu.backend.security.AuthenticatedUser;
+import com.vishnu.backend.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control ahead of Spring Security. Each /api request takes a token from its client IP's
+ * bucket for the endpoint class and, when its bearer token has already been verified, from the
+ * user's bucket too; unknown tokens are not parsed here, so they are limited by IP only. A request
+ * over either limit gets 429 and {@code Retry-After} before any authentication or database work.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Map<EndpointClass, TokenBucket<String>> ipBuckets = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, TokenBucket<Long>> userBuckets = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> ipRejections = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> userRejections = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(RateLimitProperties properties, VerifiedTokenCache verifiedTokenCache,
+                           MeterRegistry meterRegistry) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        Duration idle = Duration.ofSeconds(properties.getIdleSeconds());
+        properties.getEndpoints().forEach((endpoint, limits) -> {
+            if (limits.getIp().getPerSecond() > 0) {
+                ipBuckets.put(endpoint, new TokenBucket<>(limits.getIp().getPerSecond(), limits.getIp().getBurst(),
+                        idle, properties.getMaxKeys()));
+            }
+            if (limits.getUser().getPerSecond() > 0) {
+                userBuckets.put(endpoint, new TokenBucket<>(limits.getUser().getPerSecond(),
+                        limits.getUser().getBurst(), idle, properties.getMaxKeys()));
+            }
+        });
+        for (EndpointClass endpoint : EndpointClass.values()) {
+            ipRejections.put(endpoint, rejectionCounter(meterRegistry, endpoint, "ip"));
+            userRejections.put(endpoint, rejectionCounter(meterRegistry, endpoint, "user"));
+        }
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, EndpointClass endpoint, String key) {
+        return Counter.builder("ratelimit.rejected")
+                .description("Requests rejected with 429 by the rate limiter")
+                .tag("endpoint", endpoint.name().toLowerCase())
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        EndpointClass endpoint = EndpointClass.of(request.getMethod(), request.getRequestURI());
+        if (endpoint != null) {
+            long now = System.nanoTime();
+            TokenBucket<String> ipBucket = ipBuckets.get(endpoint);
+            long wait = ipBucket == null ? 0 : ipBucket.tryAcquire(request.getRemoteAddr(), now);
+            if (wait > 0) {
+                ipRejections.get(endpoint).increment();
+                reject(response, wait);
+                return;
+            }
+            TokenBucket<Long> userBucket = userBuckets.get(endpoint);
+            Long userId = userBucket == null ? null : knownUserId(request);
+            wait = userId == null ? 0 : userBucket.tryAcquire(userId, now);
+            if (wait > 0) {
+                userRejections.get(endpoint).increment();
+                reject(response, wait);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Long knownUserId(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        AuthenticatedUser user = verifiedTokenCache.get(header.substring(BEARER_PREFIX.length()));
+        return user == null ? null : user.userId();
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) {
+        long seconds = Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+    }
+}
@@ -0,0 +1,29 @@
+package com.vishnu.backend.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.util.EnumMap;
+import java.util.Map;
+
+/** {@code app.ratelimit.*}: one limit per endpoint class for each client IP and each authenticated user. */
+@Data
+@ConfigurationProperties(prefix = "app.ratelimit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private long idleSeconds = 600;
+    private long maxKeys = 100_000;
+    private Map<EndpointClass, EndpointLimits> endpoints = new EnumMap<>(EndpointClass.class);
+
+    @Data
+    public static class EndpointLimits {
+        private Limit ip = new Limit();
+        private Limit user = new Limit();
+    }
+
+    /** A refill rate and bucket size; a per-second of 0 leaves the key unlimited. */
+    @Data
+    public static class Limit {
+        private double perSecond;
+        private int burst = 1;
+    }
+}
@@ -0,0 +1,57 @@
+package com.vishnu.backend.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets for many keys, each held as a single "theoretical arrival time" (the generic cell
+ * rate algorithm): a request is admitted unless it arrives more than {@code burst - 1} intervals
+ * before that time, and admitting it moves the time one interval on. That is one compare-and-set
+ * per request and no locks. A bucket idle long enough to be full again carries no state and is
+ * evicted.
+ */
+public final class TokenBucket<K> {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final Cache<K, AtomicLong> arrivalTimes;
+
+    public TokenBucket(double perSecond, int burst, Duration idle, long maxKeys) {
+        if (perSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("perSecond must be positive and burst at least 1");
+        }
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / perSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1L);
+        Duration refill = Duration.ofNanos(toleranceNanos + intervalNanos);
+        this.arrivalTimes = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idle.compareTo(refill) > 0 ? idle : refill)
+                .build();
+    }
+
+    /**
+     * Takes a token for {@code key} at {@code nowNanos} (a {@link System#nanoTime()} reading).
+     * Returns 0 if the request is admitted, otherwise the nanoseconds until it would be.
+     */
+    public long tryAcquire(K key, long nowNanos) {
+        AtomicLong arrivalTime = arrivalTimes.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long current = arrivalTime.get();
+            if (current != Long.MIN_VALUE) {
+                long wait = current - toleranceNanos - nowNanos;
+                if (wait > 0) {
+                    return wait;
+                }
+            }
+            long next = (current == Long.MIN_VALUE || current - nowNanos < 0 ? nowNanos : current) + intervalNanos;
+            if (arrivalTime.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public long size() {
+        return arrivalTimes.estimatedSize();
+    }
+}
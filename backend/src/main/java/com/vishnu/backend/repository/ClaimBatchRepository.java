@@ -0,0 +1,60 @@
+package com.vishnu.backend.repository;
+
+import com.vishnu.backend.entity.Claim;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batched inserts for new claims from the claim intake, for the same reason as
+ * {@link FoodListingBatchRepository}: Hibernate cannot batch IDENTITY inserts.
+ */
+@Repository
+public class ClaimBatchRepository {
+    private static final String INSERT_SQL = "INSERT INTO claims (listing_id, claimant_id, status, claimed_at, " +
+            "created_at, updated_at, idempotency_key) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Inserts the claims in one batch and sets their generated ids. */
+    public void insertAll(List<Claim> claims) {
+        if (claims.isEmpty()) {
+            return;
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Claim claim = claims.get(i);
+                        ps.setLong(1, claim.getListing().getId());
+                        ps.setLong(2, claim.getClaimant().getId());
+                        ps.setString(3, claim.getStatus().name());
+                        ps.setTimestamp(4, Timestamp.valueOf(claim.getClaimedAt()));
+                        ps.setTimestamp(5, Timestamp.valueOf(claim.getCreatedAt()));
+                        ps.setTimestamp(6, Timestamp.valueOf(claim.getUpdatedAt()));
+                        ps.setString(7, claim.getIdempotencyKey());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return claims.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < claims.size(); i++) {
+            claims.get(i).setId(((Number) generated.get(i).values().iterator().next()).longValue());
+        }
+    }
+}
@@ -1,13 +1,125 @@
 package com.vishnu.backend.repository;
 
+import com.vishnu.backend.analytics.RollupDelta;
+import com.vishnu.backend.dto.ClaimDTO;
 import com.vishnu.backend.entity.Claim;
+import com.vishnu.backend.intake.ClaimKeyRow;
+import com.vishnu.backend.routing.RouteJob;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ClaimRepository extends JpaRepository<Claim, Long> {
+    String SELECT_CLAIM_DTO = "SELECT new com.vishnu.backend.dto.ClaimDTO(" +
+            "c.id, c.listing.id, c.claimant.id, c.courier.id, c.status, c.notes, " +
+            "c.claimedAt, c.completedAt, c.createdAt, c.updatedAt) " +
+            "FROM Claim c ";
+
     List<Claim> findByClaimantId(Long claimantId);
     List<Claim> findByListingId(Long listingId);
     List<Claim> findByStatus(Claim.ClaimStatus status);
+
+    @Query(SELECT_CLAIM_DTO + "WHERE c.id = :id")
+    Optional<ClaimDTO> findDTOById(@Param("id") Long id);
+
+    @Query(SELECT_CLAIM_DTO + "WHERE c.idempotencyKey = :key AND c.claimant.id = :claimantId")
+    Optional<ClaimDTO> findDTOByIdempotencyKey(@Param("claimantId") Long claimantId, @Param("key") String key);
+
+    /** Claims already stored under any of the keys, whichever claimant they belong to. */
+    @Query("SELECT new com.vishnu.backend.intake.ClaimKeyRow(c.id, c.claimant.id, c.idempotencyKey) " +
+            "FROM Claim c WHERE c.idempotencyKey IN :keys")
+    List<ClaimKeyRow> findKeyRows(@Param("keys") Collection<String> keys);
+
+    @Query("SELECT DISTINCT c.listing.id FROM Claim c WHERE c.status = 'PENDING'")
+    List<Long> findListingIdsWithPendingClaims();
+
+    @Query("SELECT c.listing.id FROM Claim c WHERE c.id = :id")
+    Optional<Long> findListingIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Claim c SET c.status = 'APPROVED', c.updatedAt = :now " +
+            "WHERE c.id = :id AND c.status = 'PENDING'")
+    int approveIfPending(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Claim c SET c.courier.id = :courierId, c.updatedAt = :now " +
+            "WHERE c.id = :id AND c.status = 'APPROVED'")
+    int assignCourierIfApproved(@Param("id") Long id, @Param("courierId") Long courierId,
+                                @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.vishnu.backend.routing.RouteJob(c.id, l.id, c.courier.id, l.latitude, l.longitude, " +
+            "l.location, l.quantity, l.expiryTime, u.latitude, u.longitude, u.address) " +
+            "FROM Claim c JOIN c.listing l JOIN c.claimant u " +
+            "WHERE c.status = 'APPROVED' AND c.courier.id IN :courierIds")
+    List<RouteJob> findRouteJobs(@Param("courierIds") Collection<Long> courierIds);
+
+    @Query("SELECT DISTINCT c.courier.id FROM Claim c WHERE c.status = 'APPROVED' AND c.courier IS NOT NULL")
+    List<Long> findCourierIdsWithApprovedClaims();
+
+    @Modifying
+    @Query("UPDATE Claim c SET c.status = 'COMPLETED', c.completedAt = :now, c.updatedAt = :now " +
+            "WHERE c.id = :id AND c.status = 'APPROVED'")
+    int completeIfApproved(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Claim c SET c.status = 'REJECTED', c.updatedAt = :now " +
+            "WHERE c.listing.id = :listingId AND c.id <> :approvedId AND c.status = 'PENDING'")
+    int rejectCompetingClaims(@Param("listingId") Long listingId,
+                              @Param("approvedId") Long approvedId,
+                              @Param("now") LocalDateTime now);
+
+    @Query(SELECT_CLAIM_DTO + "WHERE c.status IN ('COMPLETED', 'REJECTED', 'CANCELLED') " +
+            "AND c.updatedAt < :cutoff ORDER BY c.id")
+    List<ClaimDTO> findArchivable(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Claim c WHERE c.id IN :ids AND c.status IN ('COMPLETED', 'REJECTED', 'CANCELLED') " +
+            "AND c.updatedAt < :cutoff")
+    int deleteArchived(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT min(c.completedAt) FROM Claim c WHERE c.status = 'COMPLETED'")
+    Optional<LocalDateTime> findEarliestCompletedAt();
+
+    @Query("SELECT min(c.id) FROM Claim c WHERE c.status = 'COMPLETED' " +
+            "AND c.completedAt >= :start AND c.completedAt < :end")
+    Optional<Long> findMinCompletedId(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT max(c.id) FROM Claim c WHERE c.status = 'COMPLETED' " +
+            "AND c.completedAt >= :start AND c.completedAt < :end")
+    Optional<Long> findMaxCompletedId(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /** Completed claims with ids in [fromId, toId] and completion in [start, end), summed per rollup key. */
+    @Query("SELECT new com.vishnu.backend.analytics.RollupDelta(cast(c.completedAt as LocalDate), l.category, " +
+            "d.city, l.unit, count(c), sum(l.quantity)) " +
+            "FROM Claim c JOIN c.listing l JOIN l.donor d " +
+            "WHERE c.status = 'COMPLETED' AND c.id BETWEEN :fromId AND :toId " +
+            "AND c.completedAt >= :start AND c.completedAt < :end " +
+            "GROUP BY cast(c.completedAt as LocalDate), l.category, d.city, l.unit")
+    List<RollupDelta> sumCompletedByRollupKey(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                              @Param("start") LocalDateTime start,
+                                              @Param("end") LocalDateTime end);
+
+    @Query(SELECT_CLAIM_DTO + "WHERE c.claimant.id = :claimantId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ClaimDTO> findByClaimantIdBefore(@Param("claimantId") Long claimantId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query(SELECT_CLAIM_DTO + "WHERE c.listing.id = :listingId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ClaimDTO> findByListingIdBefore(@Param("listingId") Long listingId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
 }
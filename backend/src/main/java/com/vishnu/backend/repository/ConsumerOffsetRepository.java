@@ -0,0 +1,35 @@
+package com.vishnu.backend.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/** The {@code event_consumer_offsets} table. Writes join the caller's transaction. */
+@Repository
+public class ConsumerOffsetRepository {
+    private static final String SELECT_SQL = "SELECT next_offset FROM event_consumer_offsets WHERE consumer = ?";
+    private static final String UPDATE_SQL = "UPDATE event_consumer_offsets SET next_offset = ?, updated_at = ? " +
+            "WHERE consumer = ?";
+    private static final String INSERT_SQL = "INSERT INTO event_consumer_offsets (consumer, next_offset, updated_at) " +
+            "VALUES (?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public Optional<Long> findNextOffset(String consumer) {
+        List<Long> offsets = jdbcTemplate.queryForList(SELECT_SQL, Long.class, consumer);
+        return offsets.stream().findFirst();
+    }
+
+    /** Each consumer saves from a single thread, so an update that finds no row can simply insert. */
+    public void saveNextOffset(String consumer, long nextOffset) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(UPDATE_SQL, nextOffset, now, consumer) == 0) {
+            jdbcTemplate.update(INSERT_SQL, consumer, nextOffset, now);
+        }
+    }
+}
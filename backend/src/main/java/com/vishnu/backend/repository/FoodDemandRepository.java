@@ -0,0 +1,25 @@
+package com.vishnu.backend.repository;
+
+import com.vishnu.backend.entity.FoodDemand;
+import com.vishnu.backend.matching.MatchDemand;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FoodDemandRepository extends JpaRepository<FoodDemand, Long> {
+    List<FoodDemand> findByRecipientIdOrderByCreatedAtDesc(Long recipientId);
+
+    @Query("SELECT new com.vishnu.backend.matching.MatchDemand(d.id, d.recipient.id, d.latitude, d.longitude, " +
+            "d.category, d.remainingQuantity, d.unit, d.maxDistanceKm) " +
+            "FROM FoodDemand d WHERE d.status = 'OPEN' AND d.remainingQuantity > 0")
+    List<MatchDemand> findOpenForMatching();
+
+    @Modifying
+    @Query("UPDATE FoodDemand d SET d.status = 'CANCELLED', d.updatedAt = :now WHERE d.id = :id AND d.status = 'OPEN'")
+    int cancelIfOpen(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
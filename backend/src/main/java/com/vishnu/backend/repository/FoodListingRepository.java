@@ -1,17 +1,89 @@
 package com.vishnu.backend.repository;
 
+import com.vishnu.backend.dto.FoodListingDTO;
 import com.vishnu.backend.entity.FoodListing;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface FoodListingRepository extends JpaRepository<FoodListing, Long> {
+    String SELECT_LISTING_DTO = "SELECT new com.vishnu.backend.dto.FoodListingDTO(" +
+            "f.id, d.id, d.name, f.foodType, f.quantity, f.unit, f.description, " +
+            "f.latitude, f.longitude, f.location, f.status, f.category, f.expiryTime, f.createdAt) " +
+            "FROM FoodListing f JOIN f.donor d ";
+
     List<FoodListing> findByStatus(FoodListing.ListingStatus status);
     List<FoodListing> findByDonorId(Long donorId);
     List<FoodListing> findByCategory(FoodListing.FoodCategory category);
     
     @Query("SELECT f FROM FoodListing f WHERE f.status = 'AVAILABLE' ORDER BY f.createdAt DESC")
     List<FoodListing> findAvailableListings();
+
+    @Query(SELECT_LISTING_DTO + "WHERE f.status = 'AVAILABLE' ORDER BY f.createdAt DESC")
+    List<FoodListingDTO> findAvailableListingDTOs();
+
+    @Modifying
+    @Query("UPDATE FoodListing f SET f.status = 'CLAIMED', f.updatedAt = :now " +
+            "WHERE f.id = :id AND f.status = 'AVAILABLE'")
+    int markClaimedIfAvailable(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query("SELECT f.id FROM FoodListing f WHERE f.status = 'AVAILABLE' AND f.expiryTime <= :now " +
+            "ORDER BY f.expiryTime")
+    List<Long> findOverdueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT f.id AS id, f.expiryTime AS expiryTime FROM FoodListing f " +
+            "WHERE f.status = 'AVAILABLE' AND f.expiryTime > :from AND f.expiryTime <= :to")
+    List<ExpiryView> findUpcomingExpiries(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f.id FROM FoodListing f " +
+            "WHERE f.id IN :ids AND f.status = 'AVAILABLE' AND f.expiryTime <= :now")
+    List<Long> lockDueIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE FoodListing f SET f.status = 'EXPIRED', f.updatedAt = :now " +
+            "WHERE f.id IN :ids AND f.status = 'AVAILABLE' AND f.expiryTime <= :now")
+    int expireIfDue(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query(SELECT_LISTING_DTO + "WHERE f.id IN :ids")
+    List<FoodListingDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_LISTING_DTO + "WHERE f.status = 'AVAILABLE' " +
+            "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FoodListingDTO> findAvailableListingsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    @Query(SELECT_LISTING_DTO + "WHERE d.id = :donorId " +
+            "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FoodListingDTO> findByDonorIdBefore(@Param("donorId") Long donorId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    @Query(SELECT_LISTING_DTO + "WHERE f.status IN ('CLAIMED', 'EXPIRED', 'CANCELLED') " +
+            "AND f.updatedAt < :cutoff AND NOT EXISTS (SELECT 1 FROM Claim c WHERE c.listing.id = f.id) " +
+            "ORDER BY f.id")
+    List<FoodListingDTO> findArchivable(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM FoodListing f WHERE f.id IN :ids AND f.status IN ('CLAIMED', 'EXPIRED', 'CANCELLED') " +
+            "AND f.updatedAt < :cutoff AND NOT EXISTS (SELECT 1 FROM Claim c WHERE c.listing.id = f.id)")
+    int deleteArchived(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    interface ExpiryView {
+        Long getId();
+        LocalDateTime getExpiryTime();
+    }
 }
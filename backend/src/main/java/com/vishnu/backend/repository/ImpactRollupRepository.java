@@ -0,0 +1,30 @@
+package com.vishnu.backend.repository;
+
+import com.vishnu.backend.analytics.RollupKey;
+import com.vishnu.backend.entity.FoodListing;
+import com.vishnu.backend.entity.ImpactRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImpactRollupRepository extends JpaRepository<ImpactRollup, Long> {
+    @Query("SELECT new com.vishnu.backend.analytics.RollupKey(r.day, r.category, r.region, r.unit) " +
+            "FROM ImpactRollup r WHERE r.day IN :days")
+    List<RollupKey> findKeysByDayIn(@Param("days") Collection<LocalDate> days);
+
+    @Query("SELECT r FROM ImpactRollup r WHERE r.day BETWEEN :from AND :to " +
+            "AND (:region IS NULL OR r.region = :region) AND (:category IS NULL OR r.category = :category)")
+    List<ImpactRollup> findForRange(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                    @Param("region") String region,
+                                    @Param("category") FoodListing.FoodCategory category);
+
+    @Modifying
+    @Query("DELETE FROM ImpactRollup r WHERE r.day BETWEEN :from AND :to")
+    int deleteByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,46 @@
+package com.vishnu.backend.repository;
+
+import com.vishnu.backend.events.OutboxRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@code outbox_events} table. Inserts join the caller's transaction; the relay reads the
+ * oldest rows and deletes them once they are in the event log.
+ */
+@Repository
+public class OutboxRepository {
+    private static final String INSERT_SQL = "INSERT INTO outbox_events (event_type, aggregate_id, occurred_at, " +
+            "payload) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_PENDING_SQL = "SELECT id, event_type, aggregate_id, occurred_at, payload " +
+            "FROM outbox_events ORDER BY id LIMIT ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<OutboxRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.eventType());
+            ps.setLong(2, row.aggregateId());
+            ps.setTimestamp(3, Timestamp.valueOf(row.occurredAt()));
+            ps.setString(4, row.payload());
+        });
+    }
+
+    public List<OutboxRow> findPending(int limit) {
+        return jdbcTemplate.query(SELECT_PENDING_SQL, (rs, i) -> new OutboxRow(rs.getLong(1), rs.getString(2),
+                rs.getLong(3), rs.getTimestamp(4).toLocalDateTime(), rs.getString(5)), limit);
+    }
+
+    public int deleteAll(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM outbox_events WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+}
@@ -2,7 +2,11 @@ package com.vishnu.backend.repository;
 
 import com.vishnu.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,4 +14,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByPhone(String phone);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.id AS id, u.name AS name, u.role AS role, u.city AS city, u.impactScore AS impactScore " +
+            "FROM User u WHERE u.role IN :roles")
+    List<RankingView> findRankingViews(@Param("roles") Collection<User.UserRole> roles);
+
+    interface RankingView {
+        Long getId();
+        String getName();
+        User.UserRole getRole();
+        String getCity();
+        Double getImpactScore();
+    }
 }
@@ -0,0 +1,10 @@
+package com.vishnu.backend.routing;
+
+import java.time.LocalDateTime;
+
+/** One approved claim to carry: pick up at the listing, drop at the claimant. */
+public record RouteJob(Long claimId, Long listingId, Long courierId,
+                       Double pickupLatitude, Double pickupLongitude, String pickupLocation,
+                       Integer quantity, LocalDateTime expiryTime,
+                       Double dropLatitude, Double dropLongitude, String dropAddress) {
+}
@@ -0,0 +1,307 @@
+package com.vishnu.backend.routing;
+
+import com.vishnu.backend.dto.RouteDTO;
+import com.vishnu.backend.dto.RouteStopDTO;
+import com.vishnu.backend.geo.GeoUtils;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Single-vehicle pickup-and-drop routing. A route is feasible when every drop follows its
+ * pickup, the load never exceeds the vehicle capacity, and every pickup is reached before the
+ * listing's expiryTime. Drops have no time window. The initial route is built by nearest
+ * neighbour, then improved with 2-opt segment reversals and or-opt moves of one to three
+ * consecutive stops until neither finds a shorter feasible route. Travel time is straight-line
+ * distance at a fixed speed plus a fixed service time per stop.
+ *
+ * <p>Stateless; each call works on its own arrays, so routes for several drivers can be
+ * planned in parallel.
+ */
+public class RoutePlanner {
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_SEGMENT = 3;
+
+    private final double minutesPerKm;
+    private final double serviceMinutes;
+    private final int maxPasses;
+
+    public RoutePlanner(double speedKmh, double serviceMinutes, int maxPasses) {
+        this.minutesPerKm = 60.0 / speedKmh;
+        this.serviceMinutes = serviceMinutes;
+        this.maxPasses = maxPasses;
+    }
+
+    /**
+     * Plans a route starting at (startLat, startLng) at {@code startAt}; without a start
+     * position the route begins at the most urgent reachable pickup. Jobs without coordinates,
+     * larger than the capacity, or not reachable before expiry are returned as unroutable.
+     */
+    public RouteDTO plan(List<RouteJob> jobs, Double startLat, Double startLng, LocalDateTime startAt, int capacity) {
+        List<RouteJob> routable = new ArrayList<>(jobs.size());
+        List<Long> unroutable = new ArrayList<>();
+        for (RouteJob job : jobs) {
+            if (job.pickupLatitude() == null || job.pickupLongitude() == null
+                    || job.dropLatitude() == null || job.dropLongitude() == null
+                    || job.quantity() == null || job.quantity() > capacity) {
+                unroutable.add(job.claimId());
+            } else {
+                routable.add(job);
+            }
+        }
+
+        Problem problem = new Problem(routable, startLat, startLng, startAt, capacity);
+        int[] route = problem.nearestNeighbour();
+        boolean[] routed = new boolean[routable.size()];
+        for (int node : route) {
+            routed[node >> 1] = true;
+        }
+        for (int job = 0; job < routable.size(); job++) {
+            if (!routed[job]) {
+                unroutable.add(routable.get(job).claimId());
+            }
+        }
+
+        double km = problem.evaluate(route);
+        for (int pass = 0; pass < maxPasses && route.length > 2; pass++) {
+            double before = km;
+            km = problem.twoOpt(route, km);
+            km = problem.orOpt(route, km);
+            if (km >= before - EPSILON) {
+                break;
+            }
+        }
+        return problem.toRoute(route, unroutable);
+    }
+
+    private final class Problem {
+        private final List<RouteJob> jobs;
+        private final LocalDateTime startAt;
+        private final int capacity;
+        private final int depot;
+        private final double[][] km;
+        private final int[] quantity;
+        private final double[] deadline;
+        private final int[] pickedStamp;
+        private int stamp;
+
+        /** Nodes 2j and 2j + 1 are the pickup and drop of job j; node 2n is the start. */
+        Problem(List<RouteJob> jobs, Double startLat, Double startLng, LocalDateTime startAt, int capacity) {
+            this.jobs = jobs;
+            this.startAt = startAt;
+            this.capacity = capacity;
+            int n = jobs.size();
+            depot = 2 * n;
+            double[] lat = new double[depot + 1];
+            double[] lng = new double[depot + 1];
+            quantity = new int[n];
+            deadline = new double[n];
+            pickedStamp = new int[n];
+            for (int j = 0; j < n; j++) {
+                RouteJob job = jobs.get(j);
+                lat[2 * j] = job.pickupLatitude();
+                lng[2 * j] = job.pickupLongitude();
+                lat[2 * j + 1] = job.dropLatitude();
+                lng[2 * j + 1] = job.dropLongitude();
+                quantity[j] = job.quantity();
+                deadline[j] = job.expiryTime() == null
+                        ? Double.MAX_VALUE
+                        : Duration.between(startAt, job.expiryTime()).toSeconds() / 60.0;
+            }
+            km = new double[depot + 1][depot + 1];
+            for (int a = 0; a < depot; a++) {
+                for (int b = a + 1; b < depot; b++) {
+                    km[a][b] = km[b][a] = GeoUtils.haversineKm(lat[a], lng[a], lat[b], lng[b]);
+                }
+            }
+            if (startLat != null && startLng != null) {
+                for (int a = 0; a < depot; a++) {
+                    km[a][depot] = km[depot][a] = GeoUtils.haversineKm(lat[a], lng[a], startLat, startLng);
+                }
+            }
+        }
+
+        /** Greedy construction; pickups that can no longer be reached in time are left out. */
+        int[] nearestNeighbour() {
+            int n = jobs.size();
+            boolean[] picked = new boolean[n];
+            boolean[] dropped = new boolean[n];
+            int[] route = new int[2 * n];
+            int length = 0;
+            int position = depot;
+            int load = 0;
+            double minutes = 0;
+            while (true) {
+                int best = -1;
+                double bestKm = Double.MAX_VALUE;
+                double bestDeadline = Double.MAX_VALUE;
+                for (int j = 0; j < n; j++) {
+                    int node;
+                    double due;
+                    if (!picked[j]) {
+                        node = 2 * j;
+                        due = deadline[j];
+                        if (load + quantity[j] > capacity || minutes + km[position][node] * minutesPerKm > due) {
+                            continue;
+                        }
+                    } else if (!dropped[j]) {
+                        node = 2 * j + 1;
+                        due = Double.MAX_VALUE;
+                    } else {
+                        continue;
+                    }
+                    double distance = km[position][node];
+                    if (distance < bestKm - EPSILON || (distance <= bestKm + EPSILON && due < bestDeadline)) {
+                        best = node;
+                        bestKm = distance;
+                        bestDeadline = due;
+                    }
+                }
+                if (best < 0) {
+                    return Arrays.copyOf(route, length);
+                }
+                int job = best >> 1;
+                if ((best & 1) == 0) {
+                    picked[job] = true;
+                    load += quantity[job];
+                } else {
+                    dropped[job] = true;
+                    load -= quantity[job];
+                }
+                minutes += km[position][best] * minutesPerKm + serviceMinutes;
+                route[length++] = best;
+                position = best;
+            }
+        }
+
+        /** Total distance of the route, or infinity when it breaks a constraint. */
+        double evaluate(int[] route) {
+            stamp++;
+            double total = 0;
+            double minutes = 0;
+            int load = 0;
+            int position = depot;
+            for (int node : route) {
+                int job = node >> 1;
+                total += km[position][node];
+                minutes += km[position][node] * minutesPerKm;
+                if ((node & 1) == 0) {
+                    load += quantity[job];
+                    if (minutes > deadline[job] || load > capacity) {
+                        return Double.POSITIVE_INFINITY;
+                    }
+                    pickedStamp[job] = stamp;
+                } else {
+                    if (pickedStamp[job] != stamp) {
+                        return Double.POSITIVE_INFINITY;
+                    }
+                    load -= quantity[job];
+                }
+                minutes += serviceMinutes;
+                position = node;
+            }
+            return total;
+        }
+
+        /** One sweep of segment reversals, applied in place; returns the new distance. */
+        double twoOpt(int[] route, double current) {
+            int m = route.length;
+            int[] candidate = new int[m];
+            for (int i = 0; i < m - 1; i++) {
+                for (int j = i + 1; j < m; j++) {
+                    int prev = i == 0 ? depot : route[i - 1];
+                    double before = km[prev][route[i]] + (j == m - 1 ? 0 : km[route[j]][route[j + 1]]);
+                    double after = km[prev][route[j]] + (j == m - 1 ? 0 : km[route[i]][route[j + 1]]);
+                    if (after >= before - EPSILON) {
+                        continue;
+                    }
+                    System.arraycopy(route, 0, candidate, 0, m);
+                    for (int a = i, b = j; a < b; a++, b--) {
+                        int swap = candidate[a];
+                        candidate[a] = candidate[b];
+                        candidate[b] = swap;
+                    }
+                    double total = evaluate(candidate);
+                    if (total < current - EPSILON) {
+                        System.arraycopy(candidate, 0, route, 0, m);
+                        current = total;
+                    }
+                }
+            }
+            return current;
+        }
+
+        /** One sweep of moving runs of up to three stops elsewhere, applied in place. */
+        double orOpt(int[] route, double current) {
+            int m = route.length;
+            int[] rest = new int[m];
+            int[] candidate = new int[m];
+            for (int length = 1; length <= MAX_SEGMENT && length < m; length++) {
+                for (int i = 0; i + length <= m; i++) {
+                    int first = route[i];
+                    int last = route[i + length - 1];
+                    int prev = i == 0 ? depot : route[i - 1];
+                    int next = i + length < m ? route[i + length] : -1;
+                    double removed = km[prev][first] + (next < 0 ? 0 : km[last][next] - km[prev][next]);
+
+                    int restLength = 0;
+                    for (int k = 0; k < m; k++) {
+                        if (k < i || k >= i + length) {
+                            rest[restLength++] = route[k];
+                        }
+                    }
+                    for (int p = 0; p <= restLength; p++) {
+                        if (p == i) {
+                            continue;
+                        }
+                        int a = p == 0 ? depot : rest[p - 1];
+                        int b = p < restLength ? rest[p] : -1;
+                        double added = km[a][first] + (b < 0 ? 0 : km[last][b] - km[a][b]);
+                        if (added >= removed - EPSILON) {
+                            continue;
+                        }
+                        System.arraycopy(rest, 0, candidate, 0, p);
+                        System.arraycopy(route, i, candidate, p, length);
+                        System.arraycopy(rest, p, candidate, p + length, restLength - p);
+                        double total = evaluate(candidate);
+                        if (total < current - EPSILON) {
+                            System.arraycopy(candidate, 0, route, 0, m);
+                            current = total;
+                            break;
+                        }
+                    }
+                }
+            }
+            return current;
+        }
+
+        RouteDTO toRoute(int[] route, List<Long> unroutable) {
+            List<RouteStopDTO> stops = new ArrayList<>(route.length);
+            double total = 0;
+            double minutes = 0;
+            int load = 0;
+            int position = depot;
+            for (int node : route) {
+                RouteJob job = jobs.get(node >> 1);
+                boolean pickup = (node & 1) == 0;
+                total += km[position][node];
+                minutes += km[position][node] * minutesPerKm;
+                load += pickup ? job.quantity() : -job.quantity();
+                stops.add(new RouteStopDTO(stops.size() + 1, pickup ? "PICKUP" : "DROP", job.claimId(), job.listingId(),
+                        pickup ? job.pickupLatitude() : job.dropLatitude(),
+                        pickup ? job.pickupLongitude() : job.dropLongitude(),
+                        pickup ? job.pickupLocation() : job.dropAddress(),
+                        job.quantity(), load, plusMinutes(minutes), pickup ? job.expiryTime() : null));
+                minutes += serviceMinutes;
+                position = node;
+            }
+            return new RouteDTO(null, null, capacity, total, startAt, plusMinutes(minutes), stops, unroutable);
+        }
+
+        private LocalDateTime plusMinutes(double minutes) {
+            return startAt.plusSeconds(Math.round(minutes * 60));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.vishnu.backend.routing;
+
+import com.vishnu.backend.cache.ReadThroughCache;
+import com.vishnu.backend.dto.RouteDTO;
+import com.vishnu.backend.dto.UserDTO;
+import com.vishnu.backend.entity.User;
+import com.vishnu.backend.repository.ClaimRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+/**
+ * Pickup-and-drop routes for LOGISTICS users over the approved claims assigned to them. Each
+ * route starts at the courier's saved coordinates, if any, at the time of the request. When
+ * all couriers are planned at once, each route is its own task on a dedicated fork-join pool.
+ */
+@Service
+public class RoutingService {
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ReadThroughCache<UserDTO> userCache;
+
+    @Value("${app.routing.speed-kmh:25}")
+    private double speedKmh;
+
+    @Value("${app.routing.service-minutes:5}")
+    private double serviceMinutes;
+
+    @Value("${app.routing.max-passes:50}")
+    private int maxPasses;
+
+    @Value("${app.routing.vehicle-capacity:200}")
+    private int defaultCapacity;
+
+    @Value("${app.routing.parallelism:0}")
+    private int parallelism;
+
+    private RoutePlanner planner;
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void start() {
+        planner = new RoutePlanner(speedKmh, serviceMinutes, maxPasses);
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the user is not a LOGISTICS user or the capacity is not positive
+     */
+    public RouteDTO planRoute(@NonNull Long courierId, Integer capacity) {
+        UserDTO courier = userCache.get(courierId);
+        if (courier == null) {
+            return null;
+        }
+        if (!User.UserRole.LOGISTICS.name().equals(courier.getRole())) {
+            throw new IllegalArgumentException("User " + courierId + " is not a logistics user");
+        }
+        int vehicleCapacity = resolveCapacity(capacity);
+        return plan(courier, claimRepository.findRouteJobs(List.of(courierId)), vehicleCapacity, LocalDateTime.now());
+    }
+
+    /** Routes for every courier with approved claims assigned, planned in parallel. */
+    public List<RouteDTO> planAllRoutes(Integer capacity) {
+        int vehicleCapacity = resolveCapacity(capacity);
+        List<Long> courierIds = claimRepository.findCourierIdsWithApprovedClaims();
+        if (courierIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<RouteJob>> jobsByCourier = claimRepository.findRouteJobs(courierIds)
+                .stream()
+                .collect(Collectors.groupingBy(RouteJob::courierId));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ForkJoinTask<RouteDTO>> tasks = new ArrayList<>(jobsByCourier.size());
+        jobsByCourier.forEach((courierId, jobs) -> {
+            UserDTO courier = userCache.get(courierId);
+            if (courier != null) {
+                tasks.add(pool.submit(() -> plan(courier, jobs, vehicleCapacity, now)));
+            }
+        });
+        List<RouteDTO> routes = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<RouteDTO> task : tasks) {
+            routes.add(task.join());
+        }
+        return routes;
+    }
+
+    private RouteDTO plan(UserDTO courier, List<RouteJob> jobs, int capacity, LocalDateTime startAt) {
+        RouteDTO route = planner.plan(jobs, courier.getLatitude(), courier.getLongitude(), startAt, capacity);
+        route.setCourierId(courier.getId());
+        route.setCourierName(courier.getName());
+        return route;
+    }
+
+    private int resolveCapacity(Integer capacity) {
+        if (capacity == null) {
+            return defaultCapacity;
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,238 @@
+package com.vishnu.backend.search;
+
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.entity.FoodListing;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over AVAILABLE listings, kept in step with {@code ListingGeoIndex}.
+ * foodType, location and description are tokenised by {@link TextNormalizer}, and each
+ * posting records the heaviest field the key appears in. A query matches listings that
+ * contain every word of it, with the last word also matched as a prefix. A last word shorter
+ * than three characters, or one that starts more than 50 keys, is matched exactly, so a
+ * keystroke never merges the postings of a large part of the index. Results are ordered by
+ * summed field weight, then by soonest expiry.
+ */
+@Component
+public class ListingSearchIndex {
+    private static final int FOOD_TYPE_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_PREFIX_KEYS = 50;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private PrefixTrie trie = new PrefixTrie();
+
+    public void upsert(FoodListingDTO listing) {
+        if (!FoodListing.ListingStatus.AVAILABLE.name().equals(listing.getStatus())) {
+            remove(listing.getId());
+            return;
+        }
+        Map<String, Integer> weights = new HashMap<>();
+        Map<String, String> surfaces = new HashMap<>();
+        addField(listing.getFoodType(), FOOD_TYPE_WEIGHT, weights, surfaces);
+        addField(listing.getLocation(), LOCATION_WEIGHT, weights, surfaces);
+        addField(listing.getDescription(), DESCRIPTION_WEIGHT, weights, surfaces);
+
+        lock.writeLock().lock();
+        try {
+            unindex(docs.remove(listing.getId()));
+            Doc doc = new Doc(listing, expiryKey(listing.getExpiryTime()), weights);
+            docs.put(listing.getId(), doc);
+            weights.forEach((key, weight) -> {
+                postings.computeIfAbsent(key, k -> new HashMap<>()).put(listing.getId(), weight);
+                trie.add(key, surfaces.get(key));
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long listingId) {
+        if (listingId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            unindex(docs.remove(listingId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeIfExpired(Long listingId, LocalDateTime now) {
+        lock.writeLock().lock();
+        try {
+            Doc doc = docs.get(listingId);
+            if (doc != null && doc.expiryKey() <= expiryKey(now)) {
+                unindex(docs.remove(listingId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<FoodListingDTO> listings) {
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            postings.clear();
+            trie = new PrefixTrie();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        listings.forEach(this::upsert);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<FoodListingDTO> search(String query, int limit) {
+        List<TextNormalizer.Token> tokens = TextNormalizer.tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        long now = expiryKey(LocalDateTime.now());
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> terms = new ArrayList<>(tokens.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                String key = tokens.get(i).key();
+                Map<Long, Integer> matches = i == tokens.size() - 1 ? prefixMatches(key) : postings.get(key);
+                if (matches == null || matches.isEmpty()) {
+                    return List.of();
+                }
+                terms.add(matches);
+            }
+            terms.sort(Comparator.comparingInt(Map::size));
+
+            PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, (a, b) -> b.compareTo(a));
+            for (Map.Entry<Long, Integer> entry : terms.get(0).entrySet()) {
+                int score = entry.getValue();
+                for (int t = 1; t < terms.size() && score > 0; t++) {
+                    Integer weight = terms.get(t).get(entry.getKey());
+                    score = weight == null ? 0 : score + weight;
+                }
+                if (score == 0) {
+                    continue;
+                }
+                Doc doc = docs.get(entry.getKey());
+                if (doc.expiryKey() <= now) {
+                    continue;
+                }
+                Hit hit = new Hit(score, doc.expiryKey(), doc.listing());
+                if (best.size() < limit) {
+                    best.add(hit);
+                } else if (hit.compareTo(best.peek()) < 0) {
+                    best.poll();
+                    best.add(hit);
+                }
+            }
+            List<Hit> ordered = new ArrayList<>(best);
+            ordered.sort(null);
+            List<FoodListingDTO> result = new ArrayList<>(ordered.size());
+            ordered.forEach(hit -> result.add(hit.listing()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Completions for the last word being typed, as the words appear in listings. */
+    public List<String> suggest(String prefix, int limit) {
+        List<TextNormalizer.Token> tokens = TextNormalizer.tokenize(prefix);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return trie.suggest(tokens.get(tokens.size() - 1).key(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Listings containing any key that starts with {@code prefix}, with their best weight, or only
+     * those containing {@code prefix} itself when it is too short or too common to expand.
+     */
+    private Map<Long, Integer> prefixMatches(String prefix) {
+        if (prefix.length() < MIN_PREFIX_LENGTH) {
+            return postings.get(prefix);
+        }
+        List<String> keys = trie.keysWithPrefix(prefix, MAX_PREFIX_KEYS + 1);
+        if (keys.size() > MAX_PREFIX_KEYS) {
+            return postings.get(prefix);
+        }
+        if (keys.size() == 1) {
+            return postings.get(keys.get(0));
+        }
+        Map<Long, Integer> merged = new HashMap<>();
+        for (String key : keys) {
+            postings.get(key).forEach((id, weight) -> merged.merge(id, weight, Math::max));
+        }
+        return merged;
+    }
+
+    private void unindex(Doc doc) {
+        if (doc == null) {
+            return;
+        }
+        for (String key : doc.weights().keySet()) {
+            Map<Long, Integer> posting = postings.get(key);
+            posting.remove(doc.listing().getId());
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+            trie.remove(key);
+        }
+    }
+
+    private static void addField(String text, int weight, Map<String, Integer> weights, Map<String, String> surfaces) {
+        for (TextNormalizer.Token token : TextNormalizer.tokenize(text)) {
+            weights.merge(token.key(), weight, Math::max);
+            surfaces.putIfAbsent(token.key(), token.surface());
+        }
+    }
+
+    private static long expiryKey(LocalDateTime expiryTime) {
+        return expiryTime == null ? Long.MAX_VALUE : expiryTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private record Doc(FoodListingDTO listing, long expiryKey, Map<String, Integer> weights) {
+    }
+
+    /** Ordered best first: higher score, then sooner expiry, then lower id. */
+    private record Hit(int score, long expiryKey, FoodListingDTO listing) implements Comparable<Hit> {
+        @Override
+        public int compareTo(Hit other) {
+            if (score != other.score) {
+                return Integer.compare(other.score, score);
+            }
+            if (expiryKey != other.expiryKey) {
+                return Long.compare(expiryKey, other.expiryKey);
+            }
+            return Long.compare(listing.getId(), other.listing.getId());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.vishnu.backend.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Character trie over search keys. Each key node counts the listings that contain the key and
+ * remembers the word it was last indexed from, so suggestions can be shown as written. Nodes
+ * are pruned when their count drops to zero. Not thread-safe.
+ */
+class PrefixTrie {
+    private final Node root = new Node();
+
+    void add(String key, String surface) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        node.count++;
+        node.surface = surface;
+    }
+
+    void remove(String key) {
+        Deque<Node> path = new ArrayDeque<>(key.length() + 1);
+        Node node = root;
+        path.push(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.get(key.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path.push(node);
+        }
+        if (node.count == 0) {
+            return;
+        }
+        node.count--;
+        for (int i = key.length() - 1; i >= 0; i--) {
+            Node child = path.pop();
+            if (child.count > 0 || !child.children.isEmpty()) {
+                return;
+            }
+            path.peek().children.remove(key.charAt(i));
+        }
+    }
+
+    /** Up to {@code limit} keys starting with {@code prefix}. */
+    List<String> keysWithPrefix(String prefix, int limit) {
+        List<String> keys = new ArrayList<>();
+        Node start = find(prefix);
+        if (start != null) {
+            collect(start, new StringBuilder(prefix), keys, limit);
+        }
+        return keys;
+    }
+
+    /** Up to {@code limit} words under {@code prefix}, most widely used first. */
+    List<String> suggest(String prefix, int limit) {
+        Node start = find(prefix);
+        if (start == null) {
+            return List.of();
+        }
+        PriorityQueue<Node> best = new PriorityQueue<>(limit + 1, Comparator.comparingInt((Node n) -> n.count));
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node.count > 0) {
+                best.add(node);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            node.children.values().forEach(stack::push);
+        }
+        List<Node> ordered = new ArrayList<>(best);
+        ordered.sort(Comparator.comparingInt((Node n) -> n.count).reversed());
+        List<String> words = new ArrayList<>(ordered.size());
+        ordered.forEach(node -> words.add(node.surface));
+        return words;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, StringBuilder key, List<String> keys, int limit) {
+        if (node.count > 0) {
+            keys.add(key.toString());
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            if (keys.size() >= limit) {
+                return;
+            }
+            key.append(child.getKey());
+            collect(child.getValue(), key, keys, limit);
+            key.setLength(key.length() - 1);
+        }
+    }
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>(4);
+        int count;
+        String surface;
+    }
+}
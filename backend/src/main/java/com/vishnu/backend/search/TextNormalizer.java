@@ -0,0 +1,177 @@
+package com.vishnu.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits text into search keys that ignore case, accents and the usual spelling variants of
+ * romanised Hindi. Devanagari words are transliterated to Latin with Hindi schwa deletion, and
+ * both scripts then go through the same phonetic folding:
+ * <ul>
+ *   <li>"ee" and "oo" become "i" and "u"</li>
+ *   <li>aspirated consonants lose the "h"</li>
+ *   <li>w, z, q and f become v, j, k and p</li>
+ *   <li>doubled letters collapse</li>
+ * </ul>
+ * "daal", "dhal" and the Devanagari spelling all give {@code dal}, and "biryani" matches its
+ * Devanagari spelling the same way. This is a heuristic, not a full transliteration scheme.
+ */
+public final class TextNormalizer {
+    private static final char VIRAMA = '\u094D';
+    private static final char NUKTA = '\u093C';
+    private static final String ASPIRABLE = "bcdgjkpt";
+
+    private static final String[] CONSONANTS = {
+            "k", "kh", "g", "gh", "n", "ch", "chh", "j", "jh", "n",      // U+0915..U+091E
+            "t", "th", "d", "dh", "n", "t", "th", "d", "dh", "n",        // U+091F..U+0928
+            "n", "p", "ph", "b", "bh", "m", "y", "r", "r", "l",          // U+0929..U+0932
+            "l", "l", "v", "sh", "sh", "s", "h"                          // U+0933..U+0939
+    };
+    private static final String[] NUKTA_CONSONANTS = {"q", "kh", "g", "z", "r", "rh", "f", "y"}; // U+0958..U+095F
+    private static final String[] INDEPENDENT_VOWELS = {
+            "a", "aa", "i", "ii", "u", "uu", "ri", "li", "e", "e", "e", "ai", "o", "o", "o", "au" // U+0905..U+0914
+    };
+    private static final String[] VOWEL_SIGNS = {
+            "aa", "i", "ii", "u", "uu", "ri", "rii", "e", "e", "e", "ai", "o", "o", "o", "au"    // U+093E..U+094C
+    };
+
+    private TextNormalizer() {
+    }
+
+    public record Token(String key, String surface) {
+    }
+
+    public static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        int i = 0;
+        while (i < text.length()) {
+            while (i < text.length() && !isWordChar(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < text.length() && isWordChar(text.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                String surface = text.substring(start, i).toLowerCase(Locale.ROOT);
+                String key = fold(surface);
+                if (!key.isEmpty()) {
+                    tokens.add(new Token(key, surface));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /** The search key for a single word. */
+    public static String fold(String word) {
+        String latin = isDevanagari(word.charAt(0)) ? transliterate(word) : stripAccents(word.toLowerCase(Locale.ROOT));
+        String s = latin.replace("ee", "i").replace("oo", "u");
+        StringBuilder out = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = switch (s.charAt(i)) {
+                case 'w' -> 'v';
+                case 'z' -> 'j';
+                case 'q' -> 'k';
+                case 'f' -> 'p';
+                default -> s.charAt(i);
+            };
+            if (c == 'h' && out.length() > 0 && ASPIRABLE.indexOf(out.charAt(out.length() - 1)) >= 0) {
+                continue;
+            }
+            if (c == 'h' && out.length() > 0 && out.charAt(out.length() - 1) == 's') {
+                continue;
+            }
+            if (out.length() > 0 && out.charAt(out.length() - 1) == c) {
+                continue;
+            }
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || (c >= '\u0900' && c <= '\u097F');
+    }
+
+    private static boolean isDevanagari(char c) {
+        return c >= '\u0900' && c <= '\u097F';
+    }
+
+    private static String stripAccents(String s) {
+        return Normalizer.normalize(s, Normalizer.Form.NFKD).replaceAll("\\p{M}", "");
+    }
+
+    /**
+     * Romanises a Devanagari word one syllable at a time. The inherent vowel is dropped at the
+     * end of the word and between two vowel-bearing syllables.
+     */
+    static String transliterate(String word) {
+        List<String> consonants = new ArrayList<>();
+        List<String> vowels = new ArrayList<>();   // "" after a virama, null for an inherent schwa
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            String consonant = consonant(c);
+            if (consonant != null) {
+                consonants.add(consonant);
+                vowels.add(null);
+            } else if (c >= '\u093E' && c <= '\u094C' && !vowels.isEmpty()) {
+                vowels.set(vowels.size() - 1, VOWEL_SIGNS[c - '\u093E']);
+            } else if (c == VIRAMA && !vowels.isEmpty()) {
+                vowels.set(vowels.size() - 1, "");
+            } else if (c >= '\u0905' && c <= '\u0914') {
+                consonants.add("");
+                vowels.add(INDEPENDENT_VOWELS[c - '\u0905']);
+            } else if (c == '\u0901' || c == '\u0902') {
+                consonants.add("n");
+                vowels.add("");
+            } else if (c == '\u0903') {
+                consonants.add("h");
+                vowels.add("");
+            } else if (c >= '\u0966' && c <= '\u096F') {
+                consonants.add(String.valueOf((char) ('0' + c - '\u0966')));
+                vowels.add("");
+            } else if (c != NUKTA) {
+                consonants.add(String.valueOf(c));
+                vowels.add("");
+            }
+        }
+
+        int n = consonants.size();
+        if (n > 1 && vowels.get(n - 1) == null) {
+            vowels.set(n - 1, "");
+        }
+        for (int i = 1; i < n - 1; i++) {
+            if (vowels.get(i) == null && hasVowel(vowels.get(i - 1)) && hasVowel(vowels.get(i + 1))
+                    && !consonants.get(i + 1).isEmpty()) {
+                vowels.set(i, "");
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            out.append(consonants.get(i)).append(vowels.get(i) == null ? "a" : vowels.get(i));
+        }
+        return out.toString();
+    }
+
+    private static boolean hasVowel(String vowel) {
+        return vowel == null || !vowel.isEmpty();
+    }
+
+    private static String consonant(char c) {
+        if (c >= '\u0915' && c <= '\u0939') {
+            return CONSONANTS[c - '\u0915'];
+        }
+        if (c >= '\u0958' && c <= '\u095F') {
+            return NUKTA_CONSONANTS[c - '\u0958'];
+        }
+        return null;
+    }
+}
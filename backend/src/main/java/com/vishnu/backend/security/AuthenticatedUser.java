@@ -0,0 +1,4 @@
+package com.vishnu.backend.security;
+
+public record AuthenticatedUser(Long userId, String email, long expiresAtMillis) {
+}
@@ -0,0 +1,83 @@
+package com.vishnu.backend.security;
+
+import com.vishnu.backend.cache.ReadThroughCache;
+import com.vishnu.backend.dto.UserDTO;
+import com.vishnu.backend.service.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Authenticates {@code Authorization: Bearer} requests. Each distinct token is verified once
+ * with the pre-built parser and remembered in {@link VerifiedTokenCache} until it expires. The
+ * user's role is granted as {@code ROLE_<role>}, read through the user cache on every request so
+ * it is never older than the cached profile.
+ */
+@Component
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ReadThroughCache<UserDTO> userCache;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, VerifiedTokenCache verifiedTokenCache,
+                                   ReadThroughCache<UserDTO> userCache) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.userCache = userCache;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            AuthenticatedUser user = authenticate(header.substring(BEARER_PREFIX.length()));
+            if (user != null) {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(user, null, authorities(user));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private List<GrantedAuthority> authorities(AuthenticatedUser user) {
+        UserDTO profile = userCache.get(user.userId());
+        if (profile == null || profile.getRole() == null) {
+            return Collections.emptyList();
+        }
+        return List.of(new SimpleGrantedAuthority("ROLE_" + profile.getRole()));
+    }
+
+    private AuthenticatedUser authenticate(String token) {
+        AuthenticatedUser cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Claims claims = jwtTokenProvider.parseClaims(token);
+            AuthenticatedUser user = new AuthenticatedUser(Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class), claims.getExpiration().getTime());
+            verifiedTokenCache.put(token, user);
+            return user;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.vishnu.backend.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded map of tokens whose signature has already been verified. Entries are never served
+ * past the token's own expiry; when the map is full, expired entries are purged first and then
+ * arbitrary ones until it is back under the low-water mark.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final int maxEntries;
+    private final Map<String, AuthenticatedUser> entries = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(@Value("${app.jwt.cache-size:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public AuthenticatedUser get(String token) {
+        AuthenticatedUser user = entries.get(token);
+        if (user == null) {
+            return null;
+        }
+        if (user.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(token, user);
+            return null;
+        }
+        return user;
+    }
+
+    public void put(String token, AuthenticatedUser user) {
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(token, user);
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(user -> user.expiresAtMillis() <= now);
+
+        int lowWaterMark = maxEntries * 9 / 10;
+        Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() > lowWaterMark && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -1,19 +1,50 @@
 package com.vishnu.backend.service;
 
+import com.vishnu.backend.archive.ArchiveService;
+import com.vishnu.backend.cache.ReadThroughCache;
+import com.vishnu.backend.datasource.PrimaryWrite;
+import com.vishnu.backend.datasource.ReplicaRead;
+import com.vishnu.backend.dto.ClaimDTO;
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.dto.PageCursor;
+import com.vishnu.backend.dto.PageResponse;
+import com.vishnu.backend.dto.UserDTO;
 import com.vishnu.backend.entity.Claim;
-import com.vishnu.backend.entity.FoodListing;
 import com.vishnu.backend.entity.User;
+import com.vishnu.backend.events.DomainEvent;
+import com.vishnu.backend.events.EventOutbox;
+import com.vishnu.backend.events.EventType;
+import com.vishnu.backend.geo.ListingGeoIndex;
+import com.vishnu.backend.push.ListingPushService;
 import com.vishnu.backend.repository.ClaimRepository;
 import com.vishnu.backend.repository.FoodListingRepository;
 import com.vishnu.backend.repository.UserRepository;
+import com.vishnu.backend.search.ListingSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.lang.NonNull;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 public class ClaimService {
     @Autowired
     private ClaimRepository claimRepository;
@@ -24,64 +55,234 @@ public class ClaimService {
     @Autowired
     private UserRepository userRepository;
 
-    public Claim createClaim(@NonNull Long listingId, @NonNull Long claimantId) {
-        Optional<FoodListing> listing = foodListingRepository.findById(listingId);
-        Optional<User> claimant = userRepository.findById(claimantId);
+    @Autowired
+    private ListingGeoIndex listingGeoIndex;
+
+    @Autowired
+    private ListingSearchIndex listingSearchIndex;
+
+    @Autowired
+    private ListingExpiryService listingExpiryService;
+
+    @Autowired
+    private ListingPushService listingPushService;
+
+    @Autowired
+    private ReadThroughCache<UserDTO> userCache;
+
+    @Autowired
+    private ReadThroughCache<FoodListingDTO> listingCache;
+
+    @Autowired
+    private UserCounterBuffer userCounterBuffer;
+
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.impact.points-per-claim:10}")
+    private double pointsPerClaim;
 
-        if (listing.isEmpty() || claimant.isEmpty()) {
+    private Counter claimsCreated;
+    private Counter claimsCompleted;
+    private Counter approvalConflicts;
+    private Timer claimToApproval;
+
+    @PostConstruct
+    public void initMetrics() {
+        claimsCreated = Counter.builder("claims.created").register(meterRegistry);
+        claimsCompleted = Counter.builder("claims.completed").register(meterRegistry);
+        approvalConflicts = Counter.builder("claims.approval.conflicts")
+                .description("Approvals rejected because the listing or claim was already taken")
+                .register(meterRegistry);
+        claimToApproval = Timer.builder("claims.approval.latency")
+                .description("Time from a claim being made to its approval")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PrimaryWrite
+    @Transactional
+    public ClaimDTO createClaim(@NonNull Long listingId, @NonNull Long claimantId) {
+        if (listingCache.get(listingId) == null || userCache.get(claimantId) == null) {
             return null;
         }
 
         Claim claim = new Claim();
-        claim.setListing(listing.get());
-        claim.setClaimant(claimant.get());
+        claim.setListing(foodListingRepository.getReferenceById(listingId));
+        claim.setClaimant(userRepository.getReferenceById(claimantId));
         claim.setStatus(Claim.ClaimStatus.PENDING);
         claim.setClaimedAt(LocalDateTime.now());
         claim.setCreatedAt(LocalDateTime.now());
         claim.setUpdatedAt(LocalDateTime.now());
 
-        return claimRepository.save(claim);
+        ClaimDTO created = ClaimDTO.fromEntity(claimRepository.save(claim));
+        eventOutbox.record(DomainEvent.of(EventType.CLAIM_CREATED, created.getId(),
+                Map.of("listingId", listingId, "claimantId", claimantId)));
+        claimsCreated.increment();
+        return created;
     }
 
-    public Claim approveClaim(@NonNull Long claimId) {
-        Optional<Claim> claim = claimRepository.findById(claimId);
-
-        if (claim.isPresent()) {
-            Claim c = claim.get();
-            c.setStatus(Claim.ClaimStatus.APPROVED);
-            c.setUpdatedAt(LocalDateTime.now());
-
-            FoodListing listing = c.getListing();
-            listing.setStatus(FoodListing.ListingStatus.CLAIMED);
-            listing.setUpdatedAt(LocalDateTime.now());
-            foodListingRepository.save(listing);
+    /**
+     * Allocates the listing to this claim with conditional updates inside one transaction: the
+     * listing only flips AVAILABLE -> CLAIMED once, the claim only PENDING -> APPROVED once, and
+     * every other pending claim on the listing is rejected. The row lock taken by the listing
+     * update serialises competing approvals, so exactly one of them can win.
+     *
+     * @throws IllegalStateException if the listing is already allocated or the claim is not pending
+     */
+    @PrimaryWrite
+    @Transactional
+    public ClaimDTO approveClaim(@NonNull Long claimId) {
+        Optional<Long> listingId = claimRepository.findListingIdById(claimId);
+        if (listingId.isEmpty()) {
+            return null;
+        }
 
-            return claimRepository.save(c);
+        LocalDateTime now = LocalDateTime.now();
+        if (foodListingRepository.markClaimedIfAvailable(listingId.get(), now) == 0) {
+            approvalConflicts.increment();
+            throw new IllegalStateException("Listing is no longer available");
+        }
+        if (claimRepository.approveIfPending(claimId, now) == 0) {
+            approvalConflicts.increment();
+            throw new IllegalStateException("Claim is not pending");
+        }
+        claimRepository.rejectCompetingClaims(listingId.get(), claimId, now);
+        ClaimDTO approved = claimRepository.findDTOById(claimId).orElse(null);
+        if (approved != null) {
+            eventOutbox.record(List.of(
+                    DomainEvent.of(EventType.CLAIM_APPROVED, claimId,
+                            Map.of("listingId", listingId.get(), "claimantId", approved.getClaimantId())),
+                    DomainEvent.of(EventType.LISTING_CLAIMED, listingId.get(), Map.of("claimId", claimId))));
         }
 
-        return null;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                listingCache.invalidate(listingId.get());
+                listingExpiryService.cancel(listingId.get());
+                listingSearchIndex.remove(listingId.get());
+                FoodListingDTO removed = listingGeoIndex.remove(listingId.get());
+                if (removed != null) {
+                    listingPushService.publishRemoval(removed);
+                }
+            }
+        });
+        if (approved != null) {
+            claimToApproval.record(Duration.between(approved.getClaimedAt(), now));
+        }
+        return approved;
     }
 
-    public Claim completeClaim(@NonNull Long claimId) {
-        Optional<Claim> claim = claimRepository.findById(claimId);
+    /**
+     * Completes an approved claim once: only the call that actually moves it to COMPLETED credits the
+     * claimant's totalClaims and the impact points of both claimant and donor, and records the
+     * CLAIM_COMPLETED event the impact rollups are built from. Repeated calls return the completed
+     * claim unchanged.
+     *
+     * @throws IllegalStateException if the claim is neither approved nor already completed
+     */
+    @PrimaryWrite
+    @Transactional
+    public ClaimDTO completeClaim(@NonNull Long claimId) {
+        boolean completedNow = claimRepository.completeIfApproved(claimId, LocalDateTime.now()) > 0;
+        ClaimDTO claim = claimRepository.findDTOById(claimId).orElse(null);
+        if (claim == null) {
+            return null;
+        }
+        if (!completedNow) {
+            if (!Claim.ClaimStatus.COMPLETED.name().equals(claim.getStatus())) {
+                throw new IllegalStateException("Claim is not approved");
+            }
+            return claim;
+        }
 
-        if (claim.isPresent()) {
-            Claim c = claim.get();
-            c.setStatus(Claim.ClaimStatus.COMPLETED);
-            c.setCompletedAt(LocalDateTime.now());
-            c.setUpdatedAt(LocalDateTime.now());
+        FoodListingDTO listing = listingCache.get(claim.getListingId());
+        UserDTO donor = listing != null ? userCache.get(listing.getDonorId()) : null;
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("listingId", claim.getListingId());
+        data.put("claimantId", claim.getClaimantId());
+        data.put("completedAt", claim.getCompletedAt());
+        if (listing != null) {
+            data.put("donorId", listing.getDonorId());
+            data.put("category", listing.getCategory());
+            data.put("city", donor != null ? donor.getCity() : null);
+            data.put("unit", listing.getUnit());
+            data.put("quantity", listing.getQuantity());
+        }
+        eventOutbox.record(DomainEvent.of(EventType.CLAIM_COMPLETED, claimId, data));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userCounterBuffer.addClaims(claim.getClaimantId(), 1);
+                userCounterBuffer.addImpact(claim.getClaimantId(), pointsPerClaim);
+                if (listing != null) {
+                    userCounterBuffer.addImpact(listing.getDonorId(), pointsPerClaim);
+                }
+                claimsCompleted.increment();
+            }
+        });
+        return claim;
+    }
 
-            return claimRepository.save(c);
+    /**
+     * Hands an approved claim to a LOGISTICS user for pickup and drop-off; reassigning replaces
+     * the previous courier.
+     *
+     * @throws IllegalArgumentException if the user is not a LOGISTICS user
+     * @throws IllegalStateException if the claim is not approved
+     */
+    @PrimaryWrite
+    @Transactional
+    public ClaimDTO assignCourier(@NonNull Long claimId, @NonNull Long courierId) {
+        UserDTO courier = userCache.get(courierId);
+        if (courier == null || claimRepository.findListingIdById(claimId).isEmpty()) {
+            return null;
+        }
+        if (!User.UserRole.LOGISTICS.name().equals(courier.getRole())) {
+            throw new IllegalArgumentException("User " + courierId + " is not a logistics user");
+        }
+        if (claimRepository.assignCourierIfApproved(claimId, courierId, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("Claim is not approved");
         }
+        return claimRepository.findDTOById(claimId).orElse(null);
+    }
 
-        return null;
+    @ReplicaRead
+    public PageResponse<ClaimDTO> getClaimsByClaimant(@NonNull Long claimantId, PageCursor cursor, int size,
+                                                      boolean expandListing) {
+        List<ClaimDTO> hot = claimRepository.findByClaimantIdBefore(
+                claimantId, cursor.getCreatedAt(), cursor.getId(), PageRequest.ofSize(size + 1));
+        List<ClaimDTO> rows = archiveService.withArchivedClaims(hot, claimantId, cursor, size + 1);
+        return toPage(rows, size, expandListing);
     }
 
-    public List<Claim> getClaimsByClaimant(@NonNull Long claimantId) {
-        return claimRepository.findByClaimantId(claimantId);
+    @ReplicaRead
+    public PageResponse<ClaimDTO> getClaimsByListing(Long listingId, PageCursor cursor, int size,
+                                                     boolean expandListing) {
+        List<ClaimDTO> rows = claimRepository.findByListingIdBefore(
+                listingId, cursor.getCreatedAt(), cursor.getId(), PageRequest.ofSize(size + 1));
+        return toPage(rows, size, expandListing);
     }
 
-    public List<Claim> getClaimsByListing(Long listingId) {
-        return claimRepository.findByListingId(listingId);
+    private PageResponse<ClaimDTO> toPage(List<ClaimDTO> rows, int size, boolean expandListing) {
+        PageResponse<ClaimDTO> page = PageResponse.fromRows(rows, size, c -> c,
+                c -> new PageCursor(c.getCreatedAt(), c.getId()));
+        if (expandListing && !page.getItems().isEmpty()) {
+            Set<Long> listingIds = page.getItems().stream()
+                    .map(ClaimDTO::getListingId)
+                    .collect(Collectors.toSet());
+            Map<Long, FoodListingDTO> listings = foodListingRepository.findDTOsByIdIn(listingIds)
+                    .stream()
+                    .collect(Collectors.toMap(FoodListingDTO::getId, Function.identity()));
+            page.getItems().forEach(c -> c.setListing(listings.get(c.getListingId())));
+        }
+        return page;
     }
 }
@@ -0,0 +1,73 @@
+package com.vishnu.backend.service;
+
+import com.vishnu.backend.cache.ReadThroughCache;
+import com.vishnu.backend.dto.FoodDemandDTO;
+import com.vishnu.backend.dto.UserDTO;
+import com.vishnu.backend.entity.FoodDemand;
+import com.vishnu.backend.repository.FoodDemandRepository;
+import com.vishnu.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.lang.NonNull;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class FoodDemandService {
+    @Autowired
+    private FoodDemandRepository foodDemandRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReadThroughCache<UserDTO> userCache;
+
+    @Value("${app.matching.max-distance-km:25}")
+    private double maxDistanceKm;
+
+    /**
+     * @throws IllegalArgumentException if the quantity, unit, location or distance is missing or out of range
+     */
+    public FoodDemandDTO createDemand(FoodDemand demand, @NonNull Long recipientId) {
+        if (userCache.get(recipientId) == null) {
+            return null;
+        }
+        if (demand.getQuantity() == null || demand.getQuantity() <= 0
+                || demand.getLatitude() == null || Math.abs(demand.getLatitude()) > 90
+                || demand.getLongitude() == null || Math.abs(demand.getLongitude()) > 180) {
+            throw new IllegalArgumentException("quantity, latitude and longitude are required");
+        }
+        if (demand.getUnit() == null || demand.getUnit().isBlank()) {
+            throw new IllegalArgumentException("unit is required");
+        }
+        if (demand.getMaxDistanceKm() == null) {
+            demand.setMaxDistanceKm(maxDistanceKm);
+        } else if (demand.getMaxDistanceKm() <= 0 || demand.getMaxDistanceKm() > maxDistanceKm) {
+            throw new IllegalArgumentException("maxDistanceKm must be in (0, " + maxDistanceKm + "]");
+        }
+
+        demand.setId(null);
+        demand.setRecipient(userRepository.getReferenceById(recipientId));
+        demand.setUnit(demand.getUnit().trim());
+        demand.setRemainingQuantity(demand.getQuantity());
+        demand.setStatus(FoodDemand.DemandStatus.OPEN);
+        demand.setCreatedAt(LocalDateTime.now());
+        demand.setUpdatedAt(LocalDateTime.now());
+        return FoodDemandDTO.fromEntity(foodDemandRepository.save(demand));
+    }
+
+    public List<FoodDemandDTO> getRecipientDemands(@NonNull Long recipientId) {
+        return foodDemandRepository.findByRecipientIdOrderByCreatedAtDesc(recipientId)
+                .stream()
+                .map(FoodDemandDTO::fromEntity)
+                .toList();
+    }
+
+    @Transactional
+    public boolean cancelDemand(@NonNull Long id) {
+        return foodDemandRepository.cancelIfOpen(id, LocalDateTime.now()) > 0;
+    }
+}
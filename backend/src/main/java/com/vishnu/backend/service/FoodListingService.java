@@ -1,60 +1,207 @@
 package com.vishnu.backend.service;
 
+import com.vishnu.backend.archive.ArchiveService;
+import com.vishnu.backend.cache.ReadThroughCache;
+import com.vishnu.backend.datasource.PrimaryWrite;
+import com.vishnu.backend.datasource.ReplicaRead;
+import com.vishnu.backend.dto.BulkListingItemResult;
+import com.vishnu.backend.dto.BulkListingResponse;
 import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.dto.PageCursor;
+import com.vishnu.backend.dto.PageResponse;
+import com.vishnu.backend.dto.UserDTO;
 import com.vishnu.backend.entity.FoodListing;
 import com.vishnu.backend.entity.User;
+import com.vishnu.backend.events.DomainEvent;
+import com.vishnu.backend.events.EventOutbox;
+import com.vishnu.backend.events.EventType;
+import com.vishnu.backend.geo.ListingGeoIndex;
+import com.vishnu.backend.push.ListingPushService;
+import com.vishnu.backend.repository.FoodListingBatchRepository;
 import com.vishnu.backend.repository.FoodListingRepository;
 import com.vishnu.backend.repository.UserRepository;
+import com.vishnu.backend.search.ListingSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.lang.NonNull;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 public class FoodListingService {
     @Autowired
     private FoodListingRepository foodListingRepository;
 
+    @Autowired
+    private FoodListingBatchRepository foodListingBatchRepository;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ListingGeoIndex listingGeoIndex;
+
+    @Autowired
+    private ListingSearchIndex listingSearchIndex;
+
+    @Autowired
+    private ListingExpiryService listingExpiryService;
+
+    @Autowired
+    private ListingPushService listingPushService;
+
+    @Autowired
+    private ReadThroughCache<UserDTO> userCache;
+
+    @Autowired
+    private ReadThroughCache<FoodListingDTO> listingCache;
+
+    @Autowired
+    private UserCounterBuffer userCounterBuffer;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter listingsCreated;
+
+    @PostConstruct
+    public void initMetrics() {
+        listingsCreated = Counter.builder("listings.created").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexes() {
+        List<FoodListingDTO> available = foodListingRepository.findAvailableListingDTOs();
+        listingGeoIndex.rebuild(available);
+        listingSearchIndex.rebuild(available);
+    }
+
+    @PrimaryWrite
     public FoodListingDTO createListing(FoodListing listing, @NonNull Long donorId) {
-        Optional<User> donor = userRepository.findById(donorId);
-        if (donor.isEmpty()) {
+        UserDTO donor = userCache.get(donorId);
+        if (donor == null) {
             return null;
         }
 
-        listing.setDonor(donor.get());
+        listing.setDonor(userRepository.getReferenceById(donorId));
         listing.setStatus(FoodListing.ListingStatus.AVAILABLE);
         listing.setCreatedAt(LocalDateTime.now());
         listing.setUpdatedAt(LocalDateTime.now());
 
-        FoodListing savedListing = foodListingRepository.save(listing);
-        return FoodListingDTO.fromEntity(savedListing);
+        FoodListing savedListing = transactionTemplate.execute(status -> {
+            FoodListing saved = foodListingRepository.save(listing);
+            eventOutbox.record(created(saved, donorId));
+            return saved;
+        });
+        FoodListingDTO dto = FoodListingDTO.fromEntity(savedListing, donor);
+        onListingChanged(dto);
+        userCounterBuffer.addDonations(donorId, 1);
+        listingsCreated.increment();
+        return dto;
+    }
+
+    /**
+     * Validates every item on its own and inserts the valid ones as one JDBC batch in a single
+     * transaction. Returns null if the donor does not exist.
+     */
+    @PrimaryWrite
+    public BulkListingResponse createListings(List<FoodListing> listings, @NonNull Long donorId) {
+        UserDTO donor = userCache.get(donorId);
+        if (donor == null) {
+            return null;
+        }
+
+        User donorRef = userRepository.getReferenceById(donorId);
+        LocalDateTime now = LocalDateTime.now();
+        BulkListingItemResult[] results = new BulkListingItemResult[listings.size()];
+        List<FoodListing> accepted = new ArrayList<>(listings.size());
+        for (int i = 0; i < listings.size(); i++) {
+            FoodListing listing = listings.get(i);
+            String error = validate(listing, now);
+            if (error != null) {
+                results[i] = BulkListingItemResult.rejected(i, error);
+                continue;
+            }
+            listing.setId(null);
+            listing.setDonor(donorRef);
+            listing.setStatus(FoodListing.ListingStatus.AVAILABLE);
+            listing.setCreatedAt(now);
+            listing.setUpdatedAt(now);
+            accepted.add(listing);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            foodListingBatchRepository.insertAll(accepted);
+            eventOutbox.record(accepted.stream().map(listing -> created(listing, donorId)).toList());
+        });
+
+        for (int i = 0, next = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                FoodListingDTO dto = FoodListingDTO.fromEntity(accepted.get(next++), donor);
+                onListingChanged(dto);
+                results[i] = BulkListingItemResult.created(i, dto);
+            }
+        }
+        userCounterBuffer.addDonations(donorId, accepted.size());
+        listingsCreated.increment(accepted.size());
+        return new BulkListingResponse(accepted.size(), results.length - accepted.size(), Arrays.asList(results));
+    }
+
+    public List<FoodListingDTO> getNearbyListings(double lat, double lng, double radiusKm, int limit) {
+        return listingGeoIndex.findNearest(lat, lng, radiusKm, limit);
+    }
+
+    public List<FoodListingDTO> searchListings(String query, int limit) {
+        return listingSearchIndex.search(query, limit);
+    }
+
+    public List<String> suggestSearchTerms(String prefix, int limit) {
+        return listingSearchIndex.suggest(prefix, limit);
     }
 
-    public List<FoodListingDTO> getAvailableListings() {
-        return foodListingRepository.findAvailableListings()
-                .stream()
-                .map(FoodListingDTO::fromEntity)
-                .collect(Collectors.toList());
+    @ReplicaRead
+    public PageResponse<FoodListingDTO> getAvailableListings(PageCursor cursor, int size) {
+        List<FoodListingDTO> rows = foodListingRepository.findAvailableListingsBefore(
+                cursor.getCreatedAt(), cursor.getId(), PageRequest.ofSize(size + 1));
+        return PageResponse.fromRows(rows, size, dto -> dto, dto -> new PageCursor(dto.getCreatedAt(), dto.getId()));
     }
 
-    public List<FoodListingDTO> getDonorListings(@NonNull Long donorId) {
-        return foodListingRepository.findByDonorId(donorId)
-                .stream()
-                .map(FoodListingDTO::fromEntity)
-                .collect(Collectors.toList());
+    @ReplicaRead
+    public PageResponse<FoodListingDTO> getDonorListings(@NonNull Long donorId, PageCursor cursor, int size) {
+        List<FoodListingDTO> hot = foodListingRepository.findByDonorIdBefore(
+                donorId, cursor.getCreatedAt(), cursor.getId(), PageRequest.ofSize(size + 1));
+        List<FoodListingDTO> rows = archiveService.withArchivedListings(hot, donorId, cursor, size + 1);
+        return PageResponse.fromRows(rows, size, dto -> dto, dto -> new PageCursor(dto.getCreatedAt(), dto.getId()));
     }
 
     public FoodListingDTO getListingById(@NonNull Long id) {
-        Optional<FoodListing> listing = foodListingRepository.findById(id);
-        return listing.map(FoodListingDTO::fromEntity).orElse(null);
+        return listingCache.get(id);
     }
 
+    @PrimaryWrite
     public FoodListingDTO updateListing(@NonNull Long id, FoodListing updatedDetails) {
         Optional<FoodListing> existing = foodListingRepository.findById(id);
 
@@ -67,23 +214,98 @@ public class FoodListingService {
             listing.setUpdatedAt(LocalDateTime.now());
 
             FoodListing saved = foodListingRepository.save(listing);
-            return FoodListingDTO.fromEntity(saved);
+            FoodListingDTO dto = FoodListingDTO.fromEntity(saved);
+            onListingChanged(dto);
+            return dto;
         }
 
         return null;
     }
 
+    @PrimaryWrite
     public void updateListingStatus(@NonNull Long id, FoodListing.ListingStatus status) {
-        Optional<FoodListing> listing = foodListingRepository.findById(id);
-        if (listing.isPresent()) {
+        FoodListingDTO dto = transactionTemplate.execute(tx -> {
+            Optional<FoodListing> listing = foodListingRepository.findById(id);
+            if (listing.isEmpty()) {
+                return null;
+            }
             FoodListing fl = listing.get();
+            FoodListing.ListingStatus from = fl.getStatus();
             fl.setStatus(status);
             fl.setUpdatedAt(LocalDateTime.now());
-            foodListingRepository.save(fl);
+            FoodListing saved = foodListingRepository.save(fl);
+            eventOutbox.record(DomainEvent.of(EventType.LISTING_STATUS_CHANGED, id,
+                    Map.of("from", String.valueOf(from), "to", String.valueOf(status))));
+            return FoodListingDTO.fromEntity(saved);
+        });
+        if (dto != null) {
+            onListingChanged(dto);
         }
     }
 
+    @PrimaryWrite
     public void deleteListing(@NonNull Long id) {
-        foodListingRepository.deleteById(id);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (foodListingRepository.existsById(id)) {
+                foodListingRepository.deleteById(id);
+                eventOutbox.record(DomainEvent.of(EventType.LISTING_DELETED, id, Map.of()));
+            }
+        });
+        listingCache.invalidate(id);
+        listingExpiryService.cancel(id);
+        listingSearchIndex.remove(id);
+        FoodListingDTO removed = listingGeoIndex.remove(id);
+        if (removed != null) {
+            listingPushService.publishRemoval(removed);
+        }
+    }
+
+    private static String validate(FoodListing listing, LocalDateTime now) {
+        if (listing == null) {
+            return "listing is required";
+        }
+        if (isBlank(listing.getFoodType()) || isBlank(listing.getUnit()) || isBlank(listing.getLocation())) {
+            return "foodType, unit and location are required";
+        }
+        if (listing.getQuantity() == null || listing.getQuantity() <= 0) {
+            return "quantity must be positive";
+        }
+        if (listing.getLatitude() == null || listing.getLatitude() < -90 || listing.getLatitude() > 90
+                || listing.getLongitude() == null || listing.getLongitude() < -180 || listing.getLongitude() > 180) {
+            return "latitude and longitude must be valid coordinates";
+        }
+        if (listing.getCategory() == null) {
+            return "category is required";
+        }
+        if (listing.getExpiryTime() == null || !listing.getExpiryTime().isAfter(now)) {
+            return "expiryTime must be in the future";
+        }
+        return null;
+    }
+
+    private static DomainEvent created(FoodListing listing, Long donorId) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("donorId", donorId);
+        data.put("category", listing.getCategory());
+        data.put("quantity", listing.getQuantity());
+        data.put("unit", listing.getUnit());
+        data.put("expiryTime", listing.getExpiryTime());
+        return DomainEvent.of(EventType.LISTING_CREATED, listing.getId(), data);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private void onListingChanged(FoodListingDTO dto) {
+        listingCache.invalidate(dto.getId());
+        listingGeoIndex.upsert(dto);
+        listingSearchIndex.upsert(dto);
+        if (FoodListing.ListingStatus.AVAILABLE.name().equals(dto.getStatus())) {
+            listingExpiryService.schedule(dto.getId(), dto.getExpiryTime());
+        } else {
+            listingExpiryService.cancel(dto.getId());
+        }
+        listingPushService.publish(dto);
     }
 }
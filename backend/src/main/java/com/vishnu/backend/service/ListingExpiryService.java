@@ -0,0 +1,200 @@
+package com.vishnu.backend.service;
+
+import com.vishnu.backend.cache.ReadThroughCache;
+import com.vishnu.backend.dto.FoodListingDTO;
+import com.vishnu.backend.events.DomainEvent;
+import com.vishnu.backend.events.EventOutbox;
+import com.vishnu.backend.events.EventType;
+import com.vishnu.backend.geo.ListingGeoIndex;
+import com.vishnu.backend.push.ListingPushService;
+import com.vishnu.backend.repository.FoodListingRepository;
+import com.vishnu.backend.search.ListingSearchIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves AVAILABLE listings to EXPIRED. Listings expiring within the horizon sit in a
+ * {@link DelayQueue} and are flipped by a worker thread as soon as their expiryTime passes;
+ * a periodic sweep bulk-expires anything overdue (e.g. after a restart) in chunks and
+ * refills the queue with the next horizon.
+ */
+@Service
+public class ListingExpiryService {
+    private static final Logger log = LoggerFactory.getLogger(ListingExpiryService.class);
+
+    @Autowired
+    private FoodListingRepository foodListingRepository;
+
+    @Autowired
+    private ListingGeoIndex listingGeoIndex;
+
+    @Autowired
+    private ListingSearchIndex listingSearchIndex;
+
+    @Autowired
+    private ListingPushService listingPushService;
+
+    @Autowired
+    private ReadThroughCache<FoodListingDTO> listingCache;
+
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.expiry.horizon-minutes:30}")
+    private long horizonMinutes;
+
+    @Value("${app.expiry.batch-size:500}")
+    private int batchSize;
+
+    private final DelayQueue<PendingExpiry> queue = new DelayQueue<>();
+    private final Map<Long, LocalDateTime> scheduled = new ConcurrentHashMap<>();
+    private Thread worker;
+    private Counter expiredUnclaimed;
+
+    @PostConstruct
+    public void start() {
+        expiredUnclaimed = Counter.builder("listings.expired.unclaimed")
+                .description("AVAILABLE listings that reached their expiryTime without being claimed")
+                .register(meterRegistry);
+
+        worker = new Thread(this::drainQueue, "listing-expiry");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.interrupt();
+    }
+
+    public void schedule(Long listingId, LocalDateTime expiryTime) {
+        if (listingId == null) {
+            return;
+        }
+        if (expiryTime == null || expiryTime.isAfter(LocalDateTime.now().plusMinutes(horizonMinutes))) {
+            scheduled.remove(listingId);
+            return;
+        }
+        if (!expiryTime.equals(scheduled.put(listingId, expiryTime))) {
+            queue.put(new PendingExpiry(listingId, expiryTime));
+        }
+    }
+
+    public void cancel(Long listingId) {
+        scheduled.remove(listingId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.expiry.sweep-interval-ms:300000}",
+            initialDelayString = "${app.expiry.sweep-interval-ms:300000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+        List<Long> overdue;
+        do {
+            overdue = foodListingRepository.findOverdueIds(now, PageRequest.ofSize(batchSize));
+            if (!overdue.isEmpty()) {
+                expired += expire(overdue, now);
+            }
+        } while (overdue.size() == batchSize);
+
+        foodListingRepository.findUpcomingExpiries(now, now.plusMinutes(horizonMinutes))
+                .forEach(e -> schedule(e.getId(), e.getExpiryTime()));
+
+        if (expired > 0) {
+            log.info("Expiry sweep expired {} overdue listings", expired);
+        }
+    }
+
+    private void drainQueue() {
+        List<PendingExpiry> batch = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+
+                List<Long> due = new ArrayList<>(batch.size());
+                for (PendingExpiry pending : batch) {
+                    if (scheduled.remove(pending.listingId(), pending.expiryTime())) {
+                        due.add(pending.listingId());
+                    }
+                }
+                if (!due.isEmpty()) {
+                    expire(due, LocalDateTime.now());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Failed to expire {} listings, leaving them for the next sweep", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private int expire(List<Long> listingIds, LocalDateTime now) {
+        Integer updated = transactionTemplate.execute(status -> {
+            List<Long> due = foodListingRepository.lockDueIds(listingIds, now);
+            if (due.isEmpty()) {
+                return 0;
+            }
+            int count = foodListingRepository.expireIfDue(due, now);
+            eventOutbox.record(due.stream()
+                    .map(id -> DomainEvent.of(EventType.LISTING_EXPIRED, id, Map.of("expiredAt", now)))
+                    .toList());
+            return count;
+        });
+        if (updated != null) {
+            expiredUnclaimed.increment(updated);
+        }
+        listingCache.invalidateAll(listingIds);
+        for (Long id : listingIds) {
+            listingSearchIndex.removeIfExpired(id, now);
+            FoodListingDTO removed = listingGeoIndex.removeIfExpired(id, now);
+            if (removed != null) {
+                listingPushService.publishRemoval(removed);
+            }
+        }
+        return updated == null ? 0 : updated;
+    }
+
+    private record PendingExpiry(Long listingId, LocalDateTime expiryTime) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            long dueMillis = expiryTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            return unit.convert(dueMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return expiryTime.compareTo(((PendingExpiry) other).expiryTime);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.vishnu.backend.service;
+
+import com.vishnu.backend.cache.ReadThroughCache;
+import com.vishnu.backend.dto.UserDTO;
+import com.vishnu.backend.leaderboard.LeaderboardService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind buffer for the per-user counters (impactScore, totalDonations, totalClaims).
+ * Events only add to per-user adders; a scheduled flush drains them and applies the deltas as
+ * batched {@code col = col + ?} updates, so the database sees one batch per interval however
+ * many events arrive. Deltas that fail to flush are put back, and whatever is pending is
+ * flushed on shutdown.
+ *
+ * <p>Users with nothing pending are dropped from the map, but their adders are drained once
+ * more on the next flush: a writer may have fetched the entry just before it was removed.
+ */
+@Service
+public class UserCounterBuffer {
+    private static final Logger log = LoggerFactory.getLogger(UserCounterBuffer.class);
+
+    private static final String INCREMENT_SQL = "UPDATE users SET impact_score = impact_score + ?, " +
+            "total_donations = total_donations + ?, total_claims = total_claims + ?, updated_at = ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReadThroughCache<UserDTO> userCache;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Value("${app.counters.batch-size:500}")
+    private int batchSize;
+
+    private final Map<Long, Deltas> pending = new ConcurrentHashMap<>();
+    private List<Map.Entry<Long, Deltas>> retired = new ArrayList<>();
+
+    public void addImpact(Long userId, double points) {
+        deltas(userId).impact.add(points);
+    }
+
+    public void addDonations(Long userId, long count) {
+        deltas(userId).donations.add(count);
+    }
+
+    public void addClaims(Long userId, long count) {
+        deltas(userId).claims.add(count);
+    }
+
+    @Scheduled(fixedDelayString = "${app.counters.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Map.Entry<Long, Deltas>> previouslyRetired = retired;
+        retired = new ArrayList<>();
+
+        List<Drained> drained = new ArrayList<>();
+        for (Map.Entry<Long, Deltas> entry : previouslyRetired) {
+            drain(entry.getKey(), entry.getValue(), drained);
+        }
+        for (Map.Entry<Long, Deltas> entry : pending.entrySet()) {
+            if (!drain(entry.getKey(), entry.getValue(), drained) && pending.remove(entry.getKey(), entry.getValue())) {
+                retired.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        write(drained);
+    }
+
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        flush();
+        List<Drained> drained = new ArrayList<>();
+        retired.forEach(entry -> drain(entry.getKey(), entry.getValue(), drained));
+        retired.clear();
+        write(drained);
+    }
+
+    private Deltas deltas(Long userId) {
+        return pending.computeIfAbsent(userId, id -> new Deltas());
+    }
+
+    private static boolean drain(Long userId, Deltas deltas, List<Drained> out) {
+        double impact = deltas.impact.sumThenReset();
+        long donations = deltas.donations.sumThenReset();
+        long claims = deltas.claims.sumThenReset();
+        if (impact == 0 && donations == 0 && claims == 0) {
+            return false;
+        }
+        out.add(new Drained(userId, impact, donations, claims));
+        return true;
+    }
+
+    private void write(List<Drained> drained) {
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<Drained> chunk = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INCREMENT_SQL, chunk,
+                        chunk.size(), (ps, d) -> {
+                            ps.setDouble(1, d.impact());
+                            ps.setLong(2, d.donations());
+                            ps.setLong(3, d.claims());
+                            ps.setTimestamp(4, now);
+                            ps.setLong(5, d.userId());
+                        }));
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush counters for {} users, retrying on the next flush", chunk.size(), e);
+                chunk.forEach(d -> {
+                    Deltas deltas = deltas(d.userId());
+                    deltas.impact.add(d.impact());
+                    deltas.donations.add(d.donations());
+                    deltas.claims.add(d.claims());
+                });
+                continue;
+            }
+            userCache.invalidateAll(chunk.stream().map(Drained::userId).toList());
+            leaderboardService.addImpact(chunk.stream().filter(d -> d.impact() != 0)
+                    .collect(Collectors.toMap(Drained::userId, Drained::impact, Double::sum)));
+        }
+    }
+
+    private static final class Deltas {
+        final DoubleAdder impact = new DoubleAdder();
+        final LongAdder donations = new LongAdder();
+        final LongAdder claims = new LongAdder();
+    }
+
+    private record Drained(Long userId, double impact, long donations, long claims) {
+    }
+}
@@ -1,10 +1,15 @@
 package com.vishnu.backend.service;
 
+import com.vishnu.backend.cache.ReadThroughCache;
+import com.vishnu.backend.datasource.PrimaryWrite;
+import com.vishnu.backend.datasource.ReplicaRead;
 import com.vishnu.backend.dto.AuthRequest;
 import com.vishnu.backend.dto.AuthResponse;
 import com.vishnu.backend.dto.UserDTO;
 import com.vishnu.backend.entity.User;
+import com.vishnu.backend.leaderboard.LeaderboardService;
 import com.vishnu.backend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -13,6 +18,7 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 public class UserService {
     @Autowired
     private UserRepository userRepository;
@@ -20,6 +26,15 @@ public class UserService {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private ReadThroughCache<UserDTO> userCache;
+
+    @Autowired
+    private UserCounterBuffer userCounterBuffer;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
     public AuthResponse register(User user, String role) {
@@ -37,8 +52,10 @@ public class UserService {
 
         User savedUser = userRepository.save(user);
         String token = jwtTokenProvider.generateToken(savedUser.getId(), savedUser.getEmail());
+        UserDTO dto = UserDTO.fromEntity(savedUser);
+        leaderboardService.upsertUser(dto);
 
-        return new AuthResponse(token, "User registered successfully", UserDTO.fromEntity(savedUser));
+        return new AuthResponse(token, "User registered successfully", dto);
     }
 
     public AuthResponse login(AuthRequest request) {
@@ -54,11 +71,12 @@ public class UserService {
         return new AuthResponse(token, "Login successful", UserDTO.fromEntity(foundUser));
     }
 
+    @ReplicaRead
     public UserDTO getUserById(@NonNull Long id) {
-        Optional<User> user = userRepository.findById(id);
-        return user.map(UserDTO::fromEntity).orElse(null);
+        return userCache.get(id);
     }
 
+    @PrimaryWrite
     public UserDTO updateUser(@NonNull Long id, User userDetails) {
         Optional<User> existingUser = userRepository.findById(id);
 
@@ -67,21 +85,23 @@ public class UserService {
             if (userDetails.getName() != null) user.setName(userDetails.getName());
             if (userDetails.getPhone() != null) user.setPhone(userDetails.getPhone());
             if (userDetails.getAddress() != null) user.setAddress(userDetails.getAddress());
+            if (userDetails.getCity() != null) user.setCity(userDetails.getCity());
+            if (userDetails.getLatitude() != null) user.setLatitude(userDetails.getLatitude());
+            if (userDetails.getLongitude() != null) user.setLongitude(userDetails.getLongitude());
             user.setUpdatedAt(LocalDateTime.now());
 
             User updatedUser = userRepository.save(user);
-            return UserDTO.fromEntity(updatedUser);
+            userCache.invalidate(id);
+            UserDTO dto = UserDTO.fromEntity(updatedUser);
+            leaderboardService.upsertUser(dto);
+            return dto;
         }
 
         return null;
     }
 
+    /** Buffered; the score reaches the users table on the next counter flush. */
     public void updateImpactScore(@NonNull Long userId, @NonNull Double points) {
-        Optional<User> user = userRepository.findById(userId);
-        if (user.isPresent()) {
-            User u = user.get();
-            u.setImpactScore(u.getImpactScore() + points);
-            userRepository.save(u);
-        }
+        userCounterBuffer.addImpact(userId, points);
     }
 }
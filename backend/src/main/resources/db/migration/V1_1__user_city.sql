@@ -0,0 +1,3 @@
+-- Donor and recipient city for the per-city leaderboards and the analytics region.
+
+alter table users add column city varchar(255);
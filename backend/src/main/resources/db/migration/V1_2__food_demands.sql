@@ -0,0 +1,21 @@
+-- Open needs posted by recipients, matched to available listings by MatchingService.
+
+create table food_demands (
+    latitude float(53) not null,
+    longitude float(53) not null,
+    max_distance_km float(53) not null,
+    quantity integer not null,
+    remaining_quantity integer not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    recipient_id bigint not null,
+    updated_at datetime(6) not null,
+    category enum ('COOKED_MEALS','RAW_INGREDIENTS','BAKERY','DAIRY','BEVERAGES','PACKAGED_FOOD','OTHER'),
+    status enum ('OPEN','MATCHED','CANCELLED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table food_demands
+   add constraint FK7hnng787e94c0emuxnnou6u2e
+   foreign key (recipient_id)
+   references users (id);
@@ -0,0 +1,11 @@
+-- Courier assignment for pickup routing, and optional user coordinates for the drop stops.
+
+alter table users add column latitude float(53);
+alter table users add column longitude float(53);
+
+alter table claims add column courier_id bigint;
+
+alter table claims
+   add constraint FKoykvxypehcwweohcy7urlxh3b
+   foreign key (courier_id)
+   references users (id);
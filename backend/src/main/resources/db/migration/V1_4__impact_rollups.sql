@@ -0,0 +1,16 @@
+-- Completed-claim totals per day, category, donor city and unit, kept by ImpactRollupBuffer.
+
+create table impact_rollups (
+    rollup_day date not null,
+    claims_completed bigint not null,
+    id bigint not null auto_increment,
+    quantity_saved bigint not null,
+    updated_at datetime(6) not null,
+    unit varchar(50) not null,
+    region varchar(100) not null,
+    category enum ('COOKED_MEALS','RAW_INGREDIENTS','BAKERY','DAIRY','BEVERAGES','PACKAGED_FOOD','OTHER') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table impact_rollups
+   add constraint uk_impact_rollup unique (rollup_day, category, region, unit);
@@ -0,0 +1,72 @@
+-- Baseline: the schema Hibernate generated for MySQL (ddl-auto=update) from the entities as they
+-- were before leaderboards, matching, routing and rollups added to it. Existing databases are
+-- baselined at this version and get those additions from V1.1 to V1.4.
+
+create table claims (
+    claimant_id bigint not null,
+    claimed_at datetime(6) not null,
+    completed_at datetime(6),
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    listing_id bigint not null,
+    updated_at datetime(6) not null,
+    notes TEXT,
+    status enum ('PENDING','APPROVED','COMPLETED','REJECTED','CANCELLED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table food_listings (
+    latitude float(53) not null,
+    longitude float(53) not null,
+    quantity integer not null,
+    created_at datetime(6) not null,
+    donor_id bigint not null,
+    expiry_time datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    description TEXT,
+    food_type varchar(255) not null,
+    location varchar(255) not null,
+    unit varchar(255) not null,
+    category enum ('COOKED_MEALS','RAW_INGREDIENTS','BAKERY','DAIRY','BEVERAGES','PACKAGED_FOOD','OTHER') not null,
+    status enum ('AVAILABLE','CLAIMED','EXPIRED','CANCELLED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    impact_score DOUBLE DEFAULT 0 not null,
+    is_active BOOLEAN DEFAULT true,
+    total_claims INT DEFAULT 0 not null,
+    total_donations INT DEFAULT 0 not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    address TEXT,
+    email varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    phone varchar(255),
+    role enum ('DONOR','RECIPIENT','ADMIN','LOGISTICS'),
+    primary key (id)
+) engine=InnoDB;
+
+alter table users
+   add constraint UK_6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table users
+   add constraint UK_du5v5sr43g5bfnji4vb8hg5s3 unique (phone);
+
+alter table claims
+   add constraint FK882n1pydx5dehaufafidufaps
+   foreign key (claimant_id)
+   references users (id);
+
+alter table claims
+   add constraint FKn71ycs68weqwxkwg3vsm8k37d
+   foreign key (listing_id)
+   references food_listings (id);
+
+alter table food_listings
+   add constraint FKr7c75gj11bqxi9qsoq3biulef
+   foreign key (donor_id)
+   references users (id);
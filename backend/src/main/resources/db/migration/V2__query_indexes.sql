@@ -0,0 +1,41 @@
+-- Composite indexes for the queries in the repositories. Each one is named after the queries it
+-- serves. QueryPlanCheck (mvn -Pqueryplans test-compile exec:exec) fails if any repository query
+-- still scans a whole table. InnoDB appends the primary key to every secondary index, so the
+-- keyset feeds on (created_at DESC, id DESC) read the index in order without a filesort.
+
+-- FoodListingRepository
+-- findAvailableListingsBefore, findAvailableListings(DTOs), findByStatus
+create index idx_listings_status_created on food_listings (status, created_at);
+-- findOverdueIds, findUpcomingExpiries (expiry sweep and timing queue)
+create index idx_listings_status_expiry on food_listings (status, expiry_time);
+-- findByDonorIdBefore, findByDonorId; also serves the donor_id foreign key
+create index idx_listings_donor_created on food_listings (donor_id, created_at);
+-- findByCategory
+create index idx_listings_category_status on food_listings (category, status);
+-- findArchivable (finished listings by last update)
+create index idx_listings_status_updated on food_listings (status, updated_at);
+
+-- ClaimRepository
+-- findByClaimantIdBefore, findByClaimantId; also serves the claimant_id foreign key
+create index idx_claims_claimant_created on claims (claimant_id, created_at);
+-- findByListingIdBefore, findByListingId, rejectCompetingClaims and the archival NOT EXISTS
+-- probe; also serves the listing_id foreign key
+create index idx_claims_listing_created on claims (listing_id, created_at);
+-- findListingIdsWithPendingClaims (covering), findByStatus
+create index idx_claims_status_listing on claims (status, listing_id);
+-- findRouteJobs, findCourierIdsWithApprovedClaims (covering)
+create index idx_claims_status_courier on claims (status, courier_id);
+-- findEarliestCompletedAt, findMin/MaxCompletedId, sumCompletedByRollupKey
+create index idx_claims_status_completed on claims (status, completed_at);
+-- findArchivable (finished claims by last update)
+create index idx_claims_status_updated on claims (status, updated_at);
+
+-- UserRepository
+-- findRankingViews: covering, so the leaderboard rebuild never reads the wide user rows
+create index idx_users_role_ranking on users (role, impact_score, city, name);
+
+-- FoodDemandRepository
+-- findByRecipientIdOrderByCreatedAtDesc; also serves the recipient_id foreign key
+create index idx_demands_recipient_created on food_demands (recipient_id, created_at);
+-- findOpenForMatching
+create index idx_demands_status_remaining on food_demands (status, remaining_quantity);
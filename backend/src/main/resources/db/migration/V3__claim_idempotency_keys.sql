@@ -0,0 +1,10 @@
+-- Idempotency keys of claims taken through the asynchronous intake (POST /api/claims with an
+-- Idempotency-Key header). Keys are scoped to the claimant. The intake also remembers recent keys
+-- in memory; this unique index is what stops a retry from being inserted twice after the key has
+-- left that store or the server has restarted. It leads with the key so the intake's batch lookup
+-- by key alone can use it.
+
+alter table claims add column idempotency_key varchar(64);
+
+-- ClaimRepository: findDTOByIdempotencyKey, findKeyRows
+create unique index uk_claims_idempotency_key on claims (idempotency_key, claimant_id);
@@ -0,0 +1,12 @@
+-- Transactional outbox for domain events. Services insert a row in the same transaction as the
+-- state change it describes; the relay copies committed rows, in id order, into the local event
+-- log (app.events.dir) and deletes them, so the table only holds what has not been relayed yet.
+
+create table outbox_events (
+    id bigint not null auto_increment,
+    event_type varchar(32) not null,
+    aggregate_id bigint not null,
+    occurred_at datetime(6) not null,
+    payload varchar(2000) not null,
+    primary key (id)
+) engine=InnoDB;
@@ -0,0 +1,10 @@
+-- Event log offsets of consumers whose effects are in this database. A consumer writes its next
+-- offset in the same transaction as its changes, so after a crash or a redelivered batch it can
+-- skip every event it has already applied.
+
+create table event_consumer_offsets (
+    consumer varchar(64) not null,
+    next_offset bigint not null,
+    updated_at datetime(6) not null,
+    primary key (consumer)
+) engine=InnoDB;
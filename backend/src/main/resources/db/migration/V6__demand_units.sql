@@ -0,0 +1,5 @@
+-- Unit a demand's quantity is counted in. The matching engine only pairs a listing with a demand
+-- in the same unit. Demands posted before this column existed have no unit and are left for the
+-- recipient to re-post; their quantities cannot be compared with any listing.
+
+alter table food_demands add column unit varchar(255);
@@ -0,0 +1,7 @@
+-- Runs on every connection to the embedded replica of the replica profile. Links each table to
+-- the primary H2 database of the h2 profile, read-only.
+CREATE LINKED TABLE IF NOT EXISTS users('org.h2.Driver', 'jdbc:h2:mem:vishnu_db;MODE=MySQL', 'sa', '', 'PUBLIC.USERS') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS food_listings('org.h2.Driver', 'jdbc:h2:mem:vishnu_db;MODE=MySQL', 'sa', '', 'PUBLIC.FOOD_LISTINGS') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS claims('org.h2.Driver', 'jdbc:h2:mem:vishnu_db;MODE=MySQL', 'sa', '', 'PUBLIC.CLAIMS') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS food_demands('org.h2.Driver', 'jdbc:h2:mem:vishnu_db;MODE=MySQL', 'sa', '', 'PUBLIC.FOOD_DEMANDS') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS impact_rollups('org.h2.Driver', 'jdbc:h2:mem:vishnu_db;MODE=MySQL', 'sa', '', 'PUBLIC.IMPACT_ROLLUPS') READONLY;
@@ -0,0 +1,84 @@
+package com.vishnu.backend;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Inserts rows straight through JDBC so a test controls their state without going through the
+ * services under test. Every test shares one in-memory database, so emails are made unique and
+ * assertions stay on the rows a test created itself.
+ */
+public class TestFixtures {
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestFixtures(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long user(String role) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insert("INSERT INTO users (email, password, name, city, latitude, longitude, role, impact_score, " +
+                        "total_donations, total_claims, is_active, created_at, updated_at) " +
+                        "VALUES (?, 'x', ?, 'Hyderabad', 17.4, 78.4, ?, 0, 0, 0, true, ?, ?)",
+                UUID.randomUUID() + "@test.in", role + " user", role, now, now);
+    }
+
+    public List<Long> users(String role, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(user(role));
+        }
+        return ids;
+    }
+
+    public long listing(long donorId) {
+        LocalDateTime now = LocalDateTime.now();
+        return insert("INSERT INTO food_listings (donor_id, food_type, quantity, unit, description, latitude, " +
+                        "longitude, location, status, category, expiry_time, created_at, updated_at) " +
+                        "VALUES (?, 'Rice', 20, 'plates', 'Test listing', 17.4, 78.4, 'Hyderabad', 'AVAILABLE', " +
+                        "'COOKED_MEALS', ?, ?, ?)",
+                donorId, Timestamp.valueOf(now.plusDays(1)), Timestamp.valueOf(now), Timestamp.valueOf(now));
+    }
+
+    public long claim(long listingId, long claimantId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insert("INSERT INTO claims (listing_id, claimant_id, status, claimed_at, created_at, updated_at) " +
+                "VALUES (?, ?, 'PENDING', ?, ?, ?)", listingId, claimantId, now, now, now);
+    }
+
+    public long demand(long recipientId, int quantity, String status) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insert("INSERT INTO food_demands (recipient_id, latitude, longitude, max_distance_km, quantity, " +
+                        "remaining_quantity, unit, category, status, created_at, updated_at) " +
+                        "VALUES (?, 17.4, 78.4, 10, ?, ?, 'plates', 'COOKED_MEALS', ?, ?, ?)",
+                recipientId, quantity, quantity, status, now, now);
+    }
+
+    public String listingStatus(long listingId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM food_listings WHERE id = ?", String.class, listingId);
+    }
+
+    public String claimStatus(long claimId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM claims WHERE id = ?", String.class, claimId);
+    }
+
+    private long insert(String sql, Object... args) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement statement = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+}
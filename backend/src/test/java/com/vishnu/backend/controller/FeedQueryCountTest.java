@@ -0,0 +1,97 @@
+package com.vishnu.backend.controller;
+
+import com.vishnu.backend.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the statements Hibernate prepares for one page of each feed endpoint. A page is one
+ * keyset query, plus one IN query when the claim feeds expand their listings, however many rows
+ * it holds; a count that grows with the page size means an N+1 crept back in.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles({"h2", "test"})
+@WithMockUser
+class FeedQueryCountTest {
+    private static final List<Integer> PAGE_SIZES = List.of(1, 10, 50);
+    private static final int ROWS = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private long donorId;
+    private long claimantId;
+    private long listingId;
+
+    @BeforeEach
+    void seed() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        donorId = fixtures.user("DONOR");
+        claimantId = fixtures.user("RECIPIENT");
+        for (int i = 0; i < ROWS; i++) {
+            fixtures.claim(fixtures.listing(donorId), claimantId);
+        }
+        listingId = fixtures.listing(donorId);
+        for (Long recipient : fixtures.users("RECIPIENT", ROWS)) {
+            fixtures.claim(listingId, recipient);
+        }
+    }
+
+    @Test
+    void availableFeed() throws Exception {
+        assertConstant("/api/listings/available", 1);
+    }
+
+    @Test
+    void donorFeed() throws Exception {
+        assertConstant("/api/listings/donor/" + donorId, 1);
+    }
+
+    @Test
+    void claimantFeed() throws Exception {
+        assertConstant("/api/claims/claimant/" + claimantId, 1);
+        assertConstant("/api/claims/claimant/" + claimantId + "?expand=listing", 2);
+    }
+
+    @Test
+    void listingClaimFeed() throws Exception {
+        assertConstant("/api/claims/listing/" + listingId, 1);
+        assertConstant("/api/claims/listing/" + listingId + "?expand=listing", 2);
+    }
+
+    private void assertConstant(String url, long expected) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int size : PAGE_SIZES) {
+            statistics.clear();
+            mockMvc.perform(get(url).param("size", String.valueOf(size)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(size));
+            assertThat(statistics.getPrepareStatementCount())
+                    .as("statements for %s at size %d", url, size)
+                    .isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.vishnu.backend.geo;
+
+import com.vishnu.backend.dto.FoodListingDTO;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListingGeoIndexTest {
+    private final ListingGeoIndex index = new ListingGeoIndex(0.05);
+
+    @Test
+    void nearestSearchCrossesTheAntimeridian() {
+        index.upsert(listing(1, -16.5, 179.98));
+        index.upsert(listing(2, -16.5, -179.98));
+        index.upsert(listing(3, -16.5, 179.5));
+
+        assertThat(ids(index.findNearest(-16.5, 179.99, 5, 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.findNearest(-16.5, -179.99, 5, 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.findNearest(-16.5, 180.0, 60, 10))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void wideSearchReturnsEachListingOnce() {
+        index.upsert(listing(1, 0, 179.98));
+        index.upsert(listing(2, 0, -179.98));
+        index.upsert(listing(3, 0, 0));
+
+        assertThat(ids(index.findNearest(0, 90, 25_000, 10))).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    private static FoodListingDTO listing(long id, double lat, double lng) {
+        FoodListingDTO listing = new FoodListingDTO();
+        listing.setId(id);
+        listing.setLatitude(lat);
+        listing.setLongitude(lng);
+        listing.setStatus("AVAILABLE");
+        listing.setExpiryTime(LocalDateTime.now().plusDays(1));
+        return listing;
+    }
+
+    private static List<Long> ids(List<FoodListingDTO> listings) {
+        return listings.stream().map(FoodListingDTO::getId).toList();
+    }
+}
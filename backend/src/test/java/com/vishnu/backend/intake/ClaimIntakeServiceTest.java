@@ -0,0 +1,62 @@
+package com.vishnu.backend.intake;
+
+import com.vishnu.backend.TestFixtures;
+import com.vishnu.backend.service.FoodListingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Commits one batch in which a single claim cannot be stored: its listing is still cached, so it
+ * passes validation, but the row is gone and the insert breaks the foreign key. Only that claim
+ * may fail; the rest of the batch, including a repeated key, must still be created.
+ */
+@SpringBootTest
+@ActiveProfiles({"h2", "test"})
+class ClaimIntakeServiceTest {
+
+    @Autowired
+    private ClaimIntakeService claimIntakeService;
+
+    @Autowired
+    private FoodListingService foodListingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void failedBatchFailsOnlyTheClaimThatCannotBeStored() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        long donorId = fixtures.user("DONOR");
+        List<Long> recipients = fixtures.users("RECIPIENT", 3);
+        long listingId = fixtures.listing(donorId);
+        long goneId = fixtures.listing(donorId);
+        foodListingService.getListingById(goneId);
+        jdbcTemplate.update("DELETE FROM food_listings WHERE id = ?", goneId);
+
+        String key = UUID.randomUUID().toString();
+        ClaimIntake first = intake(recipients.get(0), key, listingId);
+        ClaimIntake broken = intake(recipients.get(1), UUID.randomUUID().toString(), goneId);
+        ClaimIntake second = intake(recipients.get(2), UUID.randomUUID().toString(), listingId);
+        ClaimIntake repeated = intake(recipients.get(0), key, listingId);
+
+        ReflectionTestUtils.invokeMethod(claimIntakeService, "commit", List.of(first, broken, second, repeated));
+
+        assertThat(broken.status()).isEqualTo(ClaimIntake.Status.FAILED);
+        assertThat(List.of(first, second, repeated)).allMatch(intake -> intake.status() == ClaimIntake.Status.CREATED);
+        assertThat(repeated.toDTO().getClaim().getId()).isEqualTo(first.toDTO().getClaim().getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM claims WHERE listing_id = ?", Integer.class,
+                listingId)).isEqualTo(2);
+    }
+
+    private static ClaimIntake intake(long claimantId, String key, long listingId) {
+        return new ClaimIntake(new IntakeKey(claimantId, key), listingId);
+    }
+}
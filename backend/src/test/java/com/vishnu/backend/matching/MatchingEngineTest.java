@@ -0,0 +1,122 @@
+package com.vishnu.backend.matching;
+
+import com.vishnu.backend.entity.FoodListing;
+import com.vishnu.backend.geo.GeoUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchingEngineTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+    private static final LocalDateTime EXPIRY = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final MatchingEngine engine = new MatchingEngine(0.5, 0.05);
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdownNow();
+    }
+
+    @Test
+    void matchesADemandAcrossARegionBoundary() {
+        List<Match> matches = engine.match(List.of(listing(1, 17.49, 78.4, 10, "plates")),
+                List.of(demand(100, 17.51, 78.4, 10, "plates")), POOL);
+
+        assertThat(matches).singleElement().satisfies(m -> {
+            assertThat(m.listingId()).isEqualTo(1);
+            assertThat(m.demandId()).isEqualTo(100);
+        });
+    }
+
+    @Test
+    void onlyMatchesTheSameUnit() {
+        List<Match> matches = engine.match(List.of(listing(1, 17.4, 78.4, 10, "kg")),
+                List.of(demand(100, 17.4, 78.41, 10, "plates"), demand(101, 17.4, 78.5, 10, " KG ")), POOL);
+
+        assertThat(matches).singleElement().satisfies(m -> assertThat(m.demandId()).isEqualTo(101));
+    }
+
+    @Test
+    void skipsDemandsWithoutAUnit() {
+        assertThat(engine.match(List.of(listing(1, 17.4, 78.4, 10, "plates")),
+                List.of(demand(100, 17.4, 78.41, 10, null)), POOL)).isEmpty();
+    }
+
+    @Test
+    void consumesAtMostWhatTheDemandStillNeeds() {
+        List<Match> matches = engine.match(List.of(listing(1, 17.4, 78.4, 30, "plates")),
+                List.of(demand(100, 17.4, 78.41, 10, "plates")), POOL);
+
+        assertThat(matches).singleElement().satisfies(m -> assertThat(m.quantity()).isEqualTo(10));
+    }
+
+    @Test
+    void aDemandOnTheBoundaryIsFilledOnce() {
+        List<Match> matches = engine.match(List.of(listing(1, 17.49, 78.4, 10, "plates"),
+                        listing(2, 17.51, 78.4, 10, "plates")),
+                List.of(demand(100, 17.50, 78.4, 10, "plates")), POOL);
+
+        assertThat(matches).singleElement().satisfies(m -> assertThat(m.quantity()).isEqualTo(10));
+    }
+
+    @Test
+    void randomBatchesNeverOverfillDemandsOrReuseListings() {
+        Random random = new Random(16);
+        for (int round = 0; round < 20; round++) {
+            List<MatchListing> listings = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                listings.add(listing(i, 17 + random.nextDouble() * 2, 78 + random.nextDouble() * 2,
+                        1 + random.nextInt(30), random.nextBoolean() ? "plates" : "kg"));
+            }
+            List<MatchDemand> demands = new ArrayList<>();
+            Map<Long, MatchDemand> demandsById = new HashMap<>();
+            for (int i = 0; i < 500; i++) {
+                MatchDemand demand = demand(10_000 + i, 17 + random.nextDouble() * 2, 78 + random.nextDouble() * 2,
+                        10 + random.nextInt(60), random.nextBoolean() ? "plates" : "kg");
+                demands.add(demand);
+                demandsById.put(demand.id(), demand);
+            }
+            Map<Long, MatchListing> listingsById = new HashMap<>();
+            listings.forEach(l -> listingsById.put(l.id(), l));
+
+            List<Match> matches = engine.match(listings, demands, POOL);
+
+            Set<Long> matchedListings = new HashSet<>();
+            Map<Long, Integer> consumed = new HashMap<>();
+            boolean crossesRegions = false;
+            for (Match m : matches) {
+                MatchListing listing = listingsById.get(m.listingId());
+                MatchDemand demand = demandsById.get(m.demandId());
+                assertThat(matchedListings.add(m.listingId())).isTrue();
+                assertThat(listing.unit()).isEqualTo(demand.unit());
+                assertThat(GeoUtils.haversineKm(listing.latitude(), listing.longitude(),
+                        demand.latitude(), demand.longitude())).isLessThanOrEqualTo(demand.maxDistanceKm());
+                assertThat(m.quantity()).isPositive().isLessThanOrEqualTo(listing.quantity());
+                consumed.merge(m.demandId(), m.quantity(), Integer::sum);
+                crossesRegions |= Math.floor(listing.latitude() / 0.5) != Math.floor(demand.latitude() / 0.5)
+                        || Math.floor(listing.longitude() / 0.5) != Math.floor(demand.longitude() / 0.5);
+            }
+            consumed.forEach((id, quantity) ->
+                    assertThat(quantity).isLessThanOrEqualTo(demandsById.get(id).remainingQuantity()));
+            assertThat(crossesRegions).isTrue();
+        }
+    }
+
+    private static MatchListing listing(long id, double lat, double lng, int quantity, String unit) {
+        return new MatchListing(id, lat, lng, FoodListing.FoodCategory.COOKED_MEALS, quantity, unit, EXPIRY);
+    }
+
+    private static MatchDemand demand(long id, double lat, double lng, int remaining, String unit) {
+        return new MatchDemand(id, 500 + id, lat, lng, null, remaining, unit, 25.0);
+    }
+}
@@ -0,0 +1,85 @@
+package com.vishnu.backend.matching;
+
+import com.vishnu.backend.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saves matches computed from a snapshot that has since gone stale: listings claimed or expired
+ * and a demand cancelled after the snapshot. Only the match that is still valid may become a claim
+ * and consume its demand.
+ */
+@SpringBootTest
+@ActiveProfiles({"h2", "test"})
+class MatchingServiceTest {
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void savesOnlyMatchesWhoseListingAndDemandAreStillOpen() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        long donorId = fixtures.user("DONOR");
+        List<Long> recipients = fixtures.users("RECIPIENT", 2);
+        long open = fixtures.demand(recipients.get(0), 100, "OPEN");
+        long cancelled = fixtures.demand(recipients.get(1), 100, "CANCELLED");
+        long available = fixtures.listing(donorId);
+        long claimed = fixtures.listing(donorId);
+        long expired = fixtures.listing(donorId);
+        long forCancelled = fixtures.listing(donorId);
+        jdbcTemplate.update("UPDATE food_listings SET status = 'CLAIMED' WHERE id = ?", claimed);
+        jdbcTemplate.update("UPDATE food_listings SET expiry_time = ? WHERE id = ?",
+                LocalDateTime.now().minusMinutes(1), expired);
+
+        Integer saved = ReflectionTestUtils.invokeMethod(matchingService, "save", List.of(
+                new Match(available, open, recipients.get(0), 10, 1.0),
+                new Match(claimed, open, recipients.get(0), 10, 1.0),
+                new Match(expired, open, recipients.get(0), 10, 1.0),
+                new Match(forCancelled, cancelled, recipients.get(1), 10, 1.0)), LocalDateTime.now());
+
+        assertThat(saved).isEqualTo(1);
+        assertThat(claimCount(available)).isEqualTo(1);
+        assertThat(claimCount(claimed)).isZero();
+        assertThat(claimCount(expired)).isZero();
+        assertThat(claimCount(forCancelled)).isZero();
+        assertThat(remaining(open)).isEqualTo(90);
+        assertThat(remaining(cancelled)).isEqualTo(100);
+    }
+
+    @Test
+    void savesNothingWhenEveryListingIsGone() {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        long donorId = fixtures.user("DONOR");
+        long recipientId = fixtures.user("RECIPIENT");
+        long demand = fixtures.demand(recipientId, 100, "OPEN");
+        long listing = fixtures.listing(donorId);
+        jdbcTemplate.update("UPDATE food_listings SET status = 'CLAIMED' WHERE id = ?", listing);
+
+        Integer saved = ReflectionTestUtils.invokeMethod(matchingService, "save",
+                List.of(new Match(listing, demand, recipientId, 10, 1.0)), LocalDateTime.now());
+
+        assertThat(saved).isZero();
+        assertThat(remaining(demand)).isEqualTo(100);
+    }
+
+    private int claimCount(long listingId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM claims WHERE listing_id = ?", Integer.class,
+                listingId);
+    }
+
+    private int remaining(long demandId) {
+        return jdbcTemplate.queryForObject("SELECT remaining_quantity FROM food_demands WHERE id = ?",
+                Integer.class, demandId);
+    }
+}
@@ -0,0 +1,165 @@
+package com.vishnu.backend.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vishnu.backend.dto.FoodListingDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListingPushServiceTest {
+    private static final int MAX_PENDING = 4;
+
+    private final List<ListingPushService> services = new ArrayList<>();
+    private long nextListingId = 1;
+
+    @AfterEach
+    void shutdown() {
+        services.forEach(ListingPushService::shutdown);
+    }
+
+    private ListingPushService service(int maxPending) {
+        ListingPushService service = new ListingPushService(new ObjectMapper().findAndRegisterModules(),
+                60_000, 8, 8, 10_000, maxPending);
+        services.add(service);
+        return service;
+    }
+
+    @Test
+    void subscriberSpanningManyCellsIsWrittenByOneThreadAtATime() throws Exception {
+        ListingPushService service = service(1000);
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.register(emitter, 17.4, 78.4, 150, null);
+        int listings = 400;
+        ExecutorService publishers = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < listings; i++) {
+                // spread over roughly 2 by 2 degrees, i.e. many 0.5 degree cells and fan-out stripes
+                FoodListingDTO listing = listing(16.6 + (i % 20) * 0.08, 77.6 + (i / 20) * 0.08);
+                publishers.execute(() -> service.publish(listing));
+                if (i % 100 == 0) {
+                    service.heartbeat();
+                }
+            }
+        } finally {
+            publishers.shutdown();
+            publishers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        awaitTrue(() -> emitter.sent.get() == listings + 4);
+        assertThat(emitter.overlapped).isFalse();
+        assertThat(emitter.threads).hasSize(1);
+        assertThat(service.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failedSendCompletesTheEmitter() throws Exception {
+        ListingPushService service = service(MAX_PENDING);
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failing = true;
+        service.register(emitter, 17.4, 78.4, 10, null);
+
+        service.publish(listing(17.4, 78.4));
+
+        awaitTrue(() -> emitter.completedWith.get() != null);
+        assertThat(emitter.completedWith.get()).isInstanceOf(IOException.class);
+        assertThat(service.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void slowSubscriberIsDroppedWithoutHoldingUpOthers() throws Exception {
+        ListingPushService service = service(MAX_PENDING);
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.blocked = new CountDownLatch(1);
+        RecordingEmitter fast = new RecordingEmitter();
+        service.register(slow, 17.4, 78.4, 10, null);
+        service.register(fast, 17.4, 78.4, 10, null);
+
+        int listings = 3 * MAX_PENDING;
+        for (int i = 1; i <= listings; i++) {
+            service.publish(listing(17.4, 78.4));
+            // in step with the fast subscriber, so only the blocked one falls behind
+            int sent = i;
+            awaitTrue(() -> fast.sent.get() == sent);
+        }
+
+        assertThat(fast.completedWith.get()).isNull();
+        assertThat(service.getSubscriberCount()).isEqualTo(1);
+        slow.blocked.countDown();
+        awaitTrue(() -> slow.completedWith.get() != null);
+        assertThat(slow.completedWith.get()).isInstanceOf(IllegalStateException.class);
+        assertThat(slow.sent.get()).isLessThanOrEqualTo(MAX_PENDING + 1);
+    }
+
+    private FoodListingDTO listing(double lat, double lng) {
+        FoodListingDTO listing = new FoodListingDTO();
+        listing.setId(nextListingId++);
+        listing.setLatitude(lat);
+        listing.setLongitude(lng);
+        listing.setStatus("AVAILABLE");
+        listing.setCategory("COOKED_MEALS");
+        return listing;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10 s").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /** Records sends instead of writing them, and whether two ever ran at once. */
+    private static final class RecordingEmitter extends SseEmitter {
+        final AtomicInteger sent = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final AtomicReference<Throwable> completedWith = new AtomicReference<>();
+        volatile boolean failing;
+        volatile CountDownLatch blocked;
+
+        @Override
+        public void send(SseEventBuilder event) throws IOException {
+            if (inFlight.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            try {
+                threads.add(Thread.currentThread().getName());
+                if (failing) {
+                    throw new IOException("Broken pipe");
+                }
+                if (blocked != null) {
+                    try {
+                        blocked.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                Thread.yield();
+                sent.incrementAndGet();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completedWith.compareAndSet(null, ex);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.vishnu.backend.queryplan;
+
+import com.vishnu.backend.VishnuBackendApplication;
+import com.vishnu.backend.entity.Claim;
+import com.vishnu.backend.entity.FoodListing;
+import com.vishnu.backend.entity.User;
+import com.vishnu.backend.repository.ClaimRepository;
+import com.vishnu.backend.repository.FoodDemandRepository;
+import com.vishnu.backend.repository.FoodListingRepository;
+import com.vishnu.backend.repository.ImpactRollupRepository;
+import com.vishnu.backend.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+/**
+ * Runs every query declared on the repositories against a seeded database, EXPLAINs the SQL
+ * Hibernate generated for it and fails if any plan reads a whole table. Also fails when a
+ * repository gains a query method without a matching check here.
+ *
+ * {@link QueryPlanCheckTest} runs it under {@code mvn test}; {@link #main} runs it standalone:
+ *
+ * <pre>mvn -Pqueryplans test-compile exec:exec</pre>
+ *
+ * By default this boots on the in-memory H2 profile, which runs the same MySQL migrations. To
+ * check a MySQL server, point the spring.datasource.* properties at an empty scratch schema and
+ * set spring.jpa.database-platform, passing them as system properties through
+ * {@code -Dqueryplan.args}. Plans are read from H2's plan text ({@code tableScan}) or MySQL's
+ * {@code type} column ({@code ALL}).
+ */
+public class QueryPlanCheck {
+    private static final List<Class<?>> REPOSITORIES = List.of(FoodListingRepository.class, ClaimRepository.class,
+            UserRepository.class, FoodDemandRepository.class, ImpactRollupRepository.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FoodListingRepository listings;
+    private final ClaimRepository claims;
+    private final UserRepository users;
+    private final FoodDemandRepository demands;
+    private final ImpactRollupRepository rollups;
+
+    QueryPlanCheck(ApplicationContext context) {
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        listings = context.getBean(FoodListingRepository.class);
+        claims = context.getBean(ClaimRepository.class);
+        users = context.getBean(UserRepository.class);
+        demands = context.getBean(FoodDemandRepository.class);
+        rollups = context.getBean(ImpactRollupRepository.class);
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        int exitCode;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(VishnuBackendApplication.class)
+                .profiles("h2", "queryplan")
+                .initializers(app -> app.getBeanFactory().addBeanPostProcessor(new StatementRecorder()))
+                .run("--server.port=0")) {
+            exitCode = new QueryPlanCheck(context).run().isEmpty() ? 0 : 1;
+        }
+        System.exit(exitCode);
+    }
+
+    /** Seeds the database, checks every repository query and returns the failures. */
+    List<String> run() {
+        new QueryPlanSeeder(jdbcTemplate).seed();
+        Map<String, Runnable> checks = checks();
+        List<String> failures = new ArrayList<>();
+
+        Set<String> declared = new LinkedHashSet<>();
+        for (Class<?> repository : REPOSITORIES) {
+            Arrays.stream(repository.getDeclaredMethods())
+                    .filter(method -> !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                    .map(Method::getName)
+                    .sorted(Comparator.naturalOrder())
+                    .forEach(name -> declared.add(repository.getSimpleName() + "." + name));
+        }
+        for (String name : declared) {
+            if (!checks.containsKey(name)) {
+                failures.add(name + ": no check in QueryPlanCheck");
+            }
+        }
+        for (String name : checks.keySet()) {
+            if (!declared.contains(name)) {
+                failures.add(name + ": check for a method that is not declared");
+            }
+        }
+
+        for (String name : declared) {
+            Runnable check = checks.get(name);
+            if (check == null) {
+                continue;
+            }
+            List<StatementRecorder.Recorded> statements = StatementRecorder.record(() ->
+                    transactionTemplate.executeWithoutResult(status -> {
+                        status.setRollbackOnly();
+                        check.run();
+                    }));
+            Map<String, StatementRecorder.Recorded> distinct = new LinkedHashMap<>();
+            statements.forEach(statement -> distinct.putIfAbsent(statement.sql(), statement));
+            if (distinct.isEmpty()) {
+                failures.add(name + ": issued no SQL");
+            }
+            for (StatementRecorder.Recorded statement : distinct.values()) {
+                Plan plan = explain(statement);
+                System.out.printf("%s %s%n    %s%n    %s%n", plan.fullScan() ? "SCAN" : "ok  ", name,
+                        statement.sql(), String.join("\n    ", plan.lines()));
+                if (plan.fullScan()) {
+                    failures.add(name + ": full scan in " + statement.sql());
+                }
+            }
+        }
+
+        System.out.printf("%nChecked %d repository queries%n", declared.size());
+        failures.forEach(failure -> System.out.println("FAIL " + failure));
+        return failures;
+    }
+
+    /** One invocation per declared repository method, with arguments that hit seeded rows. */
+    private Map<String, Runnable> checks() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusDays(90);
+        LocalDate today = now.toLocalDate();
+        Pageable page = PageRequest.ofSize(20);
+        List<Long> ids = LongStream.rangeClosed(1, 50).boxed().toList();
+        long donorId = 1;
+        long recipientId = QueryPlanSeeder.firstRecipientId();
+        long courierId = QueryPlanSeeder.firstCourierId();
+        List<Long> courierIds = LongStream.range(courierId, courierId + 20).boxed().toList();
+        Long listingId = jdbcTemplate.queryForObject("SELECT min(listing_id) FROM claims", Long.class);
+        Long claimId = jdbcTemplate.queryForObject("SELECT min(id) FROM claims WHERE status = 'PENDING'", Long.class);
+
+        Map<String, Runnable> checks = new LinkedHashMap<>();
+        String l = "FoodListingRepository.";
+        checks.put(l + "findByStatus", () -> listings.findByStatus(FoodListing.ListingStatus.AVAILABLE));
+        checks.put(l + "findByDonorId", () -> listings.findByDonorId(donorId));
+        checks.put(l + "findByCategory", () -> listings.findByCategory(FoodListing.FoodCategory.BAKERY));
+        checks.put(l + "findAvailableListings", listings::findAvailableListings);
+        checks.put(l + "findAvailableListingDTOs", listings::findAvailableListingDTOs);
+        checks.put(l + "markClaimedIfAvailable", () -> listings.markClaimedIfAvailable(listingId, now));
+        checks.put(l + "findOverdueIds", () -> listings.findOverdueIds(now, page));
+        checks.put(l + "findUpcomingExpiries", () -> listings.findUpcomingExpiries(now, now.plusMinutes(30)));
+        checks.put(l + "lockDueIds", () -> listings.lockDueIds(ids, now));
+        checks.put(l + "expireIfDue", () -> listings.expireIfDue(ids, now));
+        checks.put(l + "findDTOsByIdIn", () -> listings.findDTOsByIdIn(ids));
+        checks.put(l + "findAvailableListingsBefore", () ->
+                listings.findAvailableListingsBefore(now, Long.MAX_VALUE, page));
+        checks.put(l + "findByDonorIdBefore", () -> listings.findByDonorIdBefore(donorId, now, Long.MAX_VALUE, page));
+        checks.put(l + "findArchivable", () -> listings.findArchivable(cutoff, page));
+        checks.put(l + "deleteArchived", () -> listings.deleteArchived(ids, cutoff));
+
+        String c = "ClaimRepository.";
+        checks.put(c + "findByClaimantId", () -> claims.findByClaimantId(recipientId));
+        checks.put(c + "findByListingId", () -> claims.findByListingId(listingId));
+        checks.put(c + "findByStatus", () -> claims.findByStatus(Claim.ClaimStatus.PENDING));
+        checks.put(c + "findDTOById", () -> claims.findDTOById(claimId));
+        checks.put(c + "findDTOByIdempotencyKey", () -> claims.findDTOByIdempotencyKey(recipientId, "retry-1"));
+        checks.put(c + "findKeyRows", () -> claims.findKeyRows(List.of("retry-1", "retry-2")));
+        checks.put(c + "findListingIdsWithPendingClaims", claims::findListingIdsWithPendingClaims);
+        checks.put(c + "findListingIdById", () -> claims.findListingIdById(claimId));
+        checks.put(c + "approveIfPending", () -> claims.approveIfPending(claimId, now));
+        checks.put(c + "assignCourierIfApproved", () -> claims.assignCourierIfApproved(claimId, courierId, now));
+        checks.put(c + "findRouteJobs", () -> claims.findRouteJobs(courierIds));
+        checks.put(c + "findCourierIdsWithApprovedClaims", claims::findCourierIdsWithApprovedClaims);
+        checks.put(c + "completeIfApproved", () -> claims.completeIfApproved(claimId, now));
+        checks.put(c + "rejectCompetingClaims", () -> claims.rejectCompetingClaims(listingId, claimId, now));
+        checks.put(c + "findArchivable", () -> claims.findArchivable(cutoff, page));
+        checks.put(c + "deleteArchived", () -> claims.deleteArchived(ids, cutoff));
+        checks.put(c + "findEarliestCompletedAt", claims::findEarliestCompletedAt);
+        checks.put(c + "findMinCompletedId", () -> claims.findMinCompletedId(now.minusDays(1), now));
+        checks.put(c + "findMaxCompletedId", () -> claims.findMaxCompletedId(now.minusDays(1), now));
+        checks.put(c + "sumCompletedByRollupKey", () ->
+                claims.sumCompletedByRollupKey(1L, 5000L, now.minusDays(30), now));
+        checks.put(c + "findByClaimantIdBefore", () ->
+                claims.findByClaimantIdBefore(recipientId, now, Long.MAX_VALUE, page));
+        checks.put(c + "findByListingIdBefore", () ->
+                claims.findByListingIdBefore(listingId, now, Long.MAX_VALUE, page));
+
+        String u = "UserRepository.";
+        checks.put(u + "findByEmail", () -> users.findByEmail("plan1@example.in"));
+        checks.put(u + "findByPhone", () -> users.findByPhone("8100000001"));
+        checks.put(u + "existsByEmail", () -> users.existsByEmail("plan1@example.in"));
+        checks.put(u + "findRankingViews", () ->
+                users.findRankingViews(List.of(User.UserRole.DONOR, User.UserRole.LOGISTICS)));
+
+        String d = "FoodDemandRepository.";
+        checks.put(d + "findByRecipientIdOrderByCreatedAtDesc", () ->
+                demands.findByRecipientIdOrderByCreatedAtDesc(recipientId));
+        checks.put(d + "findOpenForMatching", demands::findOpenForMatching);
+        checks.put(d + "cancelIfOpen", () -> demands.cancelIfOpen(1L, now));
+
+        String r = "ImpactRollupRepository.";
+        checks.put(r + "findKeysByDayIn", () -> rollups.findKeysByDayIn(List.of(today, today.minusDays(1))));
+        checks.put(r + "findForRange", () -> rollups.findForRange(today.minusDays(30), today, null, null));
+        checks.put(r + "deleteByDayBetween", () -> rollups.deleteByDayBetween(today.minusDays(7), today));
+        return checks;
+    }
+
+    private record Plan(List<String> lines, boolean fullScan) {
+    }
+
+    private Plan explain(StatementRecorder.Recorded statement) {
+        return jdbcTemplate.execute((Connection con) -> {
+            try (PreparedStatement explain = con.prepareStatement("EXPLAIN " + statement.sql())) {
+                for (StatementRecorder.Parameter parameter : statement.parameters()) {
+                    parameter.setter().invoke(explain, parameter.args());
+                }
+                try (ResultSet rs = explain.executeQuery()) {
+                    return readPlan(rs);
+                }
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new SQLException("Could not bind " + statement.sql(), e);
+            }
+        });
+    }
+
+    private static Plan readPlan(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        boolean mysql = false;
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            mysql |= meta.getColumnLabel(i).equalsIgnoreCase("type");
+        }
+        List<String> lines = new ArrayList<>();
+        boolean fullScan = false;
+        while (rs.next()) {
+            if (mysql) {
+                String type = rs.getString("type");
+                lines.add(rs.getString("table") + " type=" + type + " key=" + rs.getString("key")
+                        + " rows=" + rs.getString("rows") + " extra=" + rs.getString("Extra"));
+                fullScan |= "ALL".equals(type);
+            } else {
+                String text = rs.getString(1);
+                lines.addAll(Arrays.asList(text.split("\n")));
+                fullScan |= text.contains(".tableScan");
+            }
+        }
+        return new Plan(lines, fullScan);
+    }
+}
@@ -0,0 +1,33 @@
+package com.vishnu.backend.queryplan;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Runs {@link QueryPlanCheck} as part of {@code mvn test}. */
+@SpringBootTest
+@ActiveProfiles({"h2", "queryplan"})
+class QueryPlanCheckTest {
+
+    @TestConfiguration
+    static class RecorderConfig {
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void noRepositoryQueryScansAWholeTable() {
+        assertThat(new QueryPlanCheck(context).run()).isEmpty();
+    }
+}
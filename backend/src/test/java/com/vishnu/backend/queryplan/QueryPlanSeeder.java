@@ -0,0 +1,156 @@
+package com.vishnu.backend.queryplan;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds a year of history with the status mix of a running deployment: most listings and claims
+ * finished, a small open tail. Plans are only meaningful when the optimizer sees skewed,
+ * realistically sized tables, so every table gets thousands of rows and fresh statistics.
+ *
+ * <p>Users are laid out by id: donors first, then recipients, couriers and admins.
+ */
+class QueryPlanSeeder {
+    static final int DONORS = 1000;
+    static final int RECIPIENTS = 1500;
+    static final int COURIERS = 300;
+    static final int ADMINS = 20;
+    static final int LISTINGS = 40_000;
+    static final int DEMANDS = 5000;
+
+    private static final String[] LISTING_STATUSES = {"AVAILABLE", "CLAIMED", "CLAIMED", "CLAIMED", "CLAIMED",
+            "CLAIMED", "EXPIRED", "EXPIRED", "CANCELLED", "CLAIMED"};
+    private static final String[] CLAIM_STATUSES = {"COMPLETED", "COMPLETED", "COMPLETED", "COMPLETED", "COMPLETED",
+            "COMPLETED", "REJECTED", "REJECTED", "CANCELLED", "PENDING", "APPROVED"};
+    private static final String[] DEMAND_STATUSES = {"OPEN", "MATCHED", "MATCHED", "MATCHED", "CANCELLED"};
+    private static final String[] CATEGORIES = {"COOKED_MEALS", "RAW_INGREDIENTS", "BAKERY", "DAIRY", "BEVERAGES",
+            "PACKAGED_FOOD", "OTHER"};
+    private static final String[] CITIES = {"Delhi", "Mumbai", "Bengaluru", "Chennai", "Kolkata", "Hyderabad"};
+    private static final String[] UNITS = {"plates", "kg", "boxes", "litres"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(21);
+    private final LocalDateTime now = LocalDateTime.now();
+
+    QueryPlanSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    static long firstRecipientId() {
+        return DONORS + 1;
+    }
+
+    static long firstCourierId() {
+        return DONORS + RECIPIENTS + 1;
+    }
+
+    void seed() {
+        seedUsers();
+        seedListingsAndClaims();
+        seedDemands();
+        seedRollups();
+        analyze();
+    }
+
+    private void seedUsers() {
+        int total = DONORS + RECIPIENTS + COURIERS + ADMINS;
+        List<Object[]> rows = new ArrayList<>(total);
+        for (int i = 1; i <= total; i++) {
+            String role = i <= DONORS ? "DONOR" : i < firstCourierId() ? "RECIPIENT"
+                    : i < firstCourierId() + COURIERS ? "LOGISTICS" : "ADMIN";
+            Timestamp createdAt = Timestamp.valueOf(now.minusDays(400 + random.nextInt(400)));
+            rows.add(new Object[] {"plan" + i + "@example.in", "x", "User " + i, "8" + (100000000 + i),
+                    "Address " + i, CITIES[random.nextInt(CITIES.length)], 12 + random.nextDouble() * 16,
+                    72 + random.nextDouble() * 16, role, random.nextInt(5000), createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, password, name, phone, address, city, latitude, " +
+                "longitude, role, impact_score, total_donations, total_claims, is_active, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, true, ?, ?)", rows);
+    }
+
+    /** Finished listings carry one to three claims; open ones a few pending claims or none. */
+    private void seedListingsAndClaims() {
+        List<Object[]> listings = new ArrayList<>(LISTINGS);
+        List<Object[]> claims = new ArrayList<>();
+        for (int id = 1; id <= LISTINGS; id++) {
+            String status = LISTING_STATUSES[random.nextInt(LISTING_STATUSES.length)];
+            boolean open = status.equals("AVAILABLE");
+            LocalDateTime createdAt = open ? now.minusHours(random.nextInt(72))
+                    : now.minusMinutes(random.nextInt(365 * 24 * 60));
+            LocalDateTime updatedAt = open ? createdAt : createdAt.plusHours(1 + random.nextInt(24));
+            LocalDateTime expiry = open ? now.plusHours(random.nextInt(96) - 6) : createdAt.plusHours(24);
+            listings.add(new Object[] {1 + random.nextInt(DONORS), "Food " + id, 1 + random.nextInt(50),
+                    UNITS[random.nextInt(UNITS.length)], "Seeded listing " + id, 12 + random.nextDouble() * 16,
+                    72 + random.nextDouble() * 16, CITIES[random.nextInt(CITIES.length)], status,
+                    CATEGORIES[random.nextInt(CATEGORIES.length)], Timestamp.valueOf(expiry),
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt)});
+
+            int claimCount = open ? random.nextInt(3) : status.equals("CLAIMED") ? 1 + random.nextInt(3) : 0;
+            for (int c = 0; c < claimCount; c++) {
+                String claimStatus = open ? "PENDING" : CLAIM_STATUSES[random.nextInt(CLAIM_STATUSES.length)];
+                LocalDateTime claimedAt = createdAt.plusMinutes(1 + random.nextInt(60));
+                boolean assigned = claimStatus.equals("APPROVED") || claimStatus.equals("COMPLETED");
+                LocalDateTime completedAt = claimStatus.equals("COMPLETED") ? claimedAt.plusHours(2) : null;
+                claims.add(new Object[] {id, firstRecipientId() + random.nextInt(RECIPIENTS),
+                        assigned ? firstCourierId() + random.nextInt(COURIERS) : null, claimStatus, "Seeded claim",
+                        Timestamp.valueOf(claimedAt), completedAt == null ? null : Timestamp.valueOf(completedAt),
+                        Timestamp.valueOf(claimedAt),
+                        Timestamp.valueOf(completedAt == null ? claimedAt : completedAt)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO food_listings (donor_id, food_type, quantity, unit, description, " +
+                "latitude, longitude, location, status, category, expiry_time, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", listings);
+        jdbcTemplate.batchUpdate("INSERT INTO claims (listing_id, claimant_id, courier_id, status, notes, " +
+                "claimed_at, completed_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", claims);
+    }
+
+    private void seedDemands() {
+        List<Object[]> rows = new ArrayList<>(DEMANDS);
+        for (int i = 0; i < DEMANDS; i++) {
+            String status = DEMAND_STATUSES[random.nextInt(DEMAND_STATUSES.length)];
+            int quantity = 10 + random.nextInt(90);
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextInt(365 * 24 * 60)));
+            rows.add(new Object[] {firstRecipientId() + random.nextInt(RECIPIENTS),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)], quantity,
+                    status.equals("OPEN") ? quantity : 0, UNITS[random.nextInt(UNITS.length)],
+                    12 + random.nextDouble() * 16,
+                    72 + random.nextDouble() * 16, 25.0, status, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO food_demands (recipient_id, category, quantity, remaining_quantity, " +
+                "unit, latitude, longitude, max_distance_km, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void seedRollups() {
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        for (int day = 0; day < 365; day++) {
+            LocalDate date = now.toLocalDate().minusDays(day);
+            for (String category : CATEGORIES) {
+                for (String city : CITIES) {
+                    rows.add(new Object[] {Date.valueOf(date), category, city, "plates",
+                            1 + random.nextInt(20), 10 + random.nextInt(200), updatedAt});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO impact_rollups (rollup_day, category, region, unit, " +
+                "claims_completed, quantity_saved, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void analyze() {
+        String product = jdbcTemplate.execute((Connection con) -> con.getMetaData().getDatabaseProductName());
+        if ("H2".equals(product)) {
+            jdbcTemplate.execute("ANALYZE");
+        } else {
+            jdbcTemplate.execute("ANALYZE TABLE users, food_listings, claims, food_demands, impact_rollups");
+        }
+    }
+}
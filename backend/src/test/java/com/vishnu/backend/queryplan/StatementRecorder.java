@@ -0,0 +1,89 @@
+package com.vishnu.backend.queryplan;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps the application DataSource so that, while {@link #record} runs on the current thread,
+ * every prepared statement is captured together with the setter calls that bound its
+ * parameters. The captured setters are replayed onto the EXPLAIN statement.
+ */
+class StatementRecorder implements BeanPostProcessor {
+    record Parameter(Method setter, Object[] args) {
+    }
+
+    record Recorded(String sql, List<Parameter> parameters) {
+    }
+
+    private static final ThreadLocal<List<Recorded>> RECORDING = new ThreadLocal<>();
+
+    /** Runs {@code action} and returns the statements it prepared on this thread, in order. */
+    static List<Recorded> record(Runnable action) {
+        List<Recorded> recorded = new ArrayList<>();
+        RECORDING.set(recorded);
+        try {
+            action.run();
+        } finally {
+            RECORDING.remove();
+        }
+        return recorded;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, args) -> {
+                Object result = method.invoke(dataSource, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+        return bean;
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = method.invoke(connection, args);
+            List<Recorded> recorded = RECORDING.get();
+            if (recorded != null && result instanceof PreparedStatement statement
+                    && method.getName().equals("prepareStatement")) {
+                List<Parameter> parameters = new ArrayList<>();
+                recorded.add(new Recorded((String) args[0], parameters));
+                return wrap(statement, parameters);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrap(PreparedStatement statement, List<Parameter> parameters) {
+        return proxy(PreparedStatement.class, statement, (method, args) -> {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parameters.add(new Parameter(method, args.clone()));
+            }
+            return method.invoke(statement, args);
+        });
+    }
+
+    private interface Call {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Call call) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return call.invoke(method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+}
@@ -0,0 +1,57 @@
+package com.vishnu.backend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndpointClassTest {
+
+    @Test
+    void batchPrefixesCoverTheirRootAndEverythingBelowIt() {
+        assertThat(EndpointClass.of("GET", "/api/routes")).isEqualTo(EndpointClass.BATCH);
+        assertThat(EndpointClass.of("GET", "/api/routes/courier/7")).isEqualTo(EndpointClass.BATCH);
+        assertThat(EndpointClass.of("POST", "/api/matching/run")).isEqualTo(EndpointClass.BATCH);
+        assertThat(EndpointClass.of("POST", "/api/archive/run")).isEqualTo(EndpointClass.BATCH);
+        assertThat(EndpointClass.of("GET", "/api/analytics/impact")).isEqualTo(EndpointClass.BATCH);
+        assertThat(EndpointClass.of("POST", "/api/listings/bulk")).isEqualTo(EndpointClass.BATCH);
+    }
+
+    @Test
+    void prefixesDoNotMatchLongerSiblings() {
+        assertThat(EndpointClass.of("GET", "/api/routesx")).isEqualTo(EndpointClass.READ);
+        assertThat(EndpointClass.of("POST", "/api/listings/bulky")).isEqualTo(EndpointClass.WRITE);
+        assertThat(EndpointClass.of("POST", "/api/listings")).isEqualTo(EndpointClass.WRITE);
+    }
+
+    @Test
+    void otherRequests() {
+        assertThat(EndpointClass.of("POST", "/api/auth/login")).isEqualTo(EndpointClass.AUTH);
+        assertThat(EndpointClass.of("GET", "/api/listings/available")).isEqualTo(EndpointClass.READ);
+        assertThat(EndpointClass.of("PUT", "/api/claims/17/approve")).isEqualTo(EndpointClass.WRITE);
+        assertThat(EndpointClass.of("OPTIONS", "/api/routes")).isNull();
+        assertThat(EndpointClass.of("GET", "/actuator/health")).isNull();
+    }
+
+    @Test
+    void encodedAndPaddedSpellingsGetTheClassOfThePlainPath() {
+        assertThat(EndpointClass.of("POST", "/api/auth/%6Cogin")).isEqualTo(EndpointClass.AUTH);
+        assertThat(EndpointClass.of("POST", "/api/auth//login")).isEqualTo(EndpointClass.AUTH);
+        assertThat(EndpointClass.of("POST", "//api/auth/login")).isEqualTo(EndpointClass.AUTH);
+        assertThat(EndpointClass.of("POST", "/api/auth/login;jsessionid=0A1B")).isEqualTo(EndpointClass.AUTH);
+        assertThat(EndpointClass.of("POST", "/api/auth;x=1/register")).isEqualTo(EndpointClass.AUTH);
+        assertThat(EndpointClass.of("POST", "/api/./auth/./login")).isEqualTo(EndpointClass.AUTH);
+        assertThat(EndpointClass.of("POST", "/api/listings/../auth/login")).isEqualTo(EndpointClass.AUTH);
+
+        assertThat(EndpointClass.of("POST", "/api/%6Datching/run")).isEqualTo(EndpointClass.BATCH);
+        assertThat(EndpointClass.of("GET", "/api/%72outes")).isEqualTo(EndpointClass.BATCH);
+        assertThat(EndpointClass.of("GET", "/api//routes")).isEqualTo(EndpointClass.BATCH);
+        assertThat(EndpointClass.of("GET", "/api/routes;jsessionid=0A1B")).isEqualTo(EndpointClass.BATCH);
+        assertThat(EndpointClass.of("POST", "/api/./archive/run")).isEqualTo(EndpointClass.BATCH);
+        assertThat(EndpointClass.of("POST", "/api/listings/%62ulk")).isEqualTo(EndpointClass.BATCH);
+    }
+
+    @Test
+    void malformedEscapesAreLeftAsTheyAre() {
+        assertThat(EndpointClass.of("GET", "/api/listings/%zz")).isEqualTo(EndpointClass.READ);
+    }
+}
@@ -0,0 +1,66 @@
+package com.vishnu.backend.search;
+
+import com.vishnu.backend.dto.FoodListingDTO;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListingSearchIndexTest {
+    private static final String CONSONANTS = "bdklmrstv";
+    private static final String VOWELS = "aeiou";
+
+    private final ListingSearchIndex index = new ListingSearchIndex();
+    private long nextId = 1;
+
+    @Test
+    void lastWordIsMatchedAsPrefix() {
+        long rajma = add("Rajma");
+        add("Rasam");
+
+        assertThat(ids(index.search("raj", 10))).containsExactly(rajma);
+        assertThat(ids(index.search("ras", 10))).hasSize(1);
+        assertThat(ids(index.search("rajma", 10))).containsExactly(rajma);
+    }
+
+    @Test
+    void shortLastWordIsMatchedExactly() {
+        add("Rajma");
+        add("Rasam");
+        long ra = add("Ra");
+
+        assertThat(ids(index.search("ra", 10))).containsExactly(ra);
+        assertThat(index.search("r", 10)).isEmpty();
+    }
+
+    @Test
+    void lastWordStartingTooManyKeysIsMatchedExactly() {
+        for (char c : CONSONANTS.toCharArray()) {
+            for (char v : VOWELS.toCharArray()) {
+                add("pan" + c + v);
+                add("pan" + v + c);
+            }
+        }
+        long pan = add("Pan");
+        long panbe = add("Panbe");
+
+        assertThat(ids(index.search("pan", 200))).containsExactly(pan);
+        assertThat(ids(index.search("panbe", 200))).hasSize(2).contains(panbe);
+    }
+
+    private long add(String foodType) {
+        long id = nextId++;
+        FoodListingDTO listing = new FoodListingDTO();
+        listing.setId(id);
+        listing.setFoodType(foodType);
+        listing.setStatus("AVAILABLE");
+        listing.setExpiryTime(LocalDateTime.now().plusDays(1));
+        index.upsert(listing);
+        return id;
+    }
+
+    private static List<Long> ids(List<FoodListingDTO> listings) {
+        return listings.stream().map(FoodListingDTO::getId).toList();
+    }
+}
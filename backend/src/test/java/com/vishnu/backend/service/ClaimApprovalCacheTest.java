@@ -0,0 +1,103 @@
+package com.vishnu.backend.service;
+
+import com.vishnu.backend.TestFixtures;
+import com.vishnu.backend.dto.ClaimDTO;
+import com.vishnu.backend.dto.PageCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Warms the listing cache and the claim feed, approves a claim and checks both show the new
+ * state as soon as the approval has committed, while another thread keeps reading the same
+ * listing so that cache loads race the commit-time invalidation.
+ */
+@SpringBootTest
+@ActiveProfiles({"h2", "test"})
+class ClaimApprovalCacheTest {
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private FoodListingService foodListingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** One read by the racing thread: when it started and the listing status it returned. */
+    private record Read(long startedAt, String status) {
+    }
+
+    @Test
+    void approvalIsVisibleThroughTheCachesRightAfterCommit() throws Exception {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        long donorId = fixtures.user("DONOR");
+        List<Long> recipients = fixtures.users("RECIPIENT", 2);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long listingId = fixtures.listing(donorId);
+            long claimId = fixtures.claim(listingId, recipients.get(0));
+            long competingId = fixtures.claim(listingId, recipients.get(1));
+
+            assertThat(foodListingService.getListingById(listingId).getStatus()).isEqualTo("AVAILABLE");
+            assertThat(claimStatuses(listingId)).containsOnly("PENDING");
+
+            AtomicLong approvedAt = new AtomicLong(Long.MAX_VALUE);
+            AtomicReference<Read> readAfterApproval = new AtomicReference<>();
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread reader = new Thread(() -> {
+                while (running.get()) {
+                    long startedAt = System.nanoTime();
+                    String status = foodListingService.getListingById(listingId).getStatus();
+                    if (startedAt > approvedAt.get()) {
+                        readAfterApproval.set(new Read(startedAt, status));
+                        return;
+                    }
+                }
+            });
+            reader.start();
+            try {
+                claimService.approveClaim(claimId);
+                approvedAt.set(System.nanoTime());
+
+                assertThat(foodListingService.getListingById(listingId).getStatus()).isEqualTo("CLAIMED");
+                List<ClaimDTO> feed = claimService.getClaimsByListing(listingId, PageCursor.FIRST, 20, true)
+                        .getItems();
+                assertThat(feed).filteredOn(c -> c.getId() == claimId)
+                        .singleElement()
+                        .satisfies(c -> {
+                            assertThat(c.getStatus()).isEqualTo("APPROVED");
+                            assertThat(c.getListing().getStatus()).isEqualTo("CLAIMED");
+                        });
+                assertThat(feed).filteredOn(c -> c.getId() == competingId)
+                        .singleElement()
+                        .satisfies(c -> assertThat(c.getStatus()).isEqualTo("REJECTED"));
+                reader.join(TimeUnit.SECONDS.toMillis(5));
+            } finally {
+                running.set(false);
+                reader.join();
+            }
+
+            assertThat(readAfterApproval.get()).isNotNull()
+                    .satisfies(read -> assertThat(read.status()).isEqualTo("CLAIMED"));
+            assertThat(foodListingService.getListingById(listingId).getStatus()).isEqualTo("CLAIMED");
+        }
+    }
+
+    private List<String> claimStatuses(long listingId) {
+        return claimService.getClaimsByListing(listingId, PageCursor.FIRST, 20, false).getItems().stream()
+                .map(ClaimDTO::getStatus)
+                .toList();
+    }
+}
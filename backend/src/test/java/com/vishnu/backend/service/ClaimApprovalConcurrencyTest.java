@@ -0,0 +1,94 @@
+package com.vishnu.backend.service;
+
+import com.vishnu.backend.TestFixtures;
+import com.vishnu.backend.dto.ClaimDTO;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires thousands of approvals for the claims on one listing at once and checks that the
+ * conditional updates in {@link ClaimService#approveClaim} let exactly one of them through.
+ * Logs how many approvals per second were decided, winner and rejections alike.
+ */
+@SpringBootTest
+@ActiveProfiles({"h2", "test"})
+class ClaimApprovalConcurrencyTest {
+    private static final Logger log = LoggerFactory.getLogger(ClaimApprovalConcurrencyTest.class);
+    private static final int CLAIMS = 2000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exactlyOneOfManyParallelApprovalsWins() throws Exception {
+        TestFixtures fixtures = new TestFixtures(jdbcTemplate);
+        long listingId = fixtures.listing(fixtures.user("DONOR"));
+        List<Long> recipients = fixtures.users("RECIPIENT", 50);
+        List<Long> claimIds = new ArrayList<>(CLAIMS);
+        for (int i = 0; i < CLAIMS; i++) {
+            claimIds.add(fixtures.claim(listingId, recipients.get(i % recipients.size())));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ClaimDTO>> approvals = new ArrayList<>(CLAIMS);
+        try {
+            for (Long claimId : claimIds) {
+                approvals.add(executor.submit(() -> {
+                    start.await();
+                    return claimService.approveClaim(claimId);
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+
+            List<ClaimDTO> winners = new ArrayList<>();
+            int conflicts = 0;
+            for (Future<ClaimDTO> approval : approvals) {
+                try {
+                    winners.add(approval.get(60, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+                    conflicts++;
+                }
+            }
+            long elapsedNanos = System.nanoTime() - started;
+            log.info("{} parallel approvals of one listing on {} threads took {} ms: {} approvals/sec",
+                    CLAIMS, THREADS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    Math.round(CLAIMS * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos));
+
+            assertThat(winners).hasSize(1);
+            assertThat(conflicts).isEqualTo(CLAIMS - 1);
+            long winnerId = winners.get(0).getId();
+            assertThat(fixtures.listingStatus(listingId)).isEqualTo("CLAIMED");
+            assertThat(fixtures.claimStatus(winnerId)).isEqualTo("APPROVED");
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM claims WHERE listing_id = ? AND status = 'APPROVED'", Long.class, listingId))
+                    .isEqualTo(1L);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM claims WHERE listing_id = ? AND status <> 'APPROVED'", Long.class, listingId))
+                    .isEqualTo(CLAIMS - 1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}